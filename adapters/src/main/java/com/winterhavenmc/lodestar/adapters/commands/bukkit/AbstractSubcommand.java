@@ -21,7 +21,10 @@ import com.winterhavenmc.lodestar.util.CommandCtx;
 import com.winterhavenmc.lodestar.util.MessageId;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -93,4 +96,59 @@ abstract class AbstractSubcommand implements Subcommand
 		return string.toLowerCase().startsWith(prefix.toLowerCase());
 	}
 
+
+	/**
+	 * Test if a command target selects a group of players, rather than naming a single player
+	 *
+	 * @param target the command target argument
+	 * @return true if the target is an entity selector, permission or group target, false if not
+	 */
+	protected boolean isGroupTarget(final String target)
+	{
+		return target.startsWith("@") || target.startsWith("perm:") || target.startsWith("group:");
+	}
+
+
+	/**
+	 * Get the online players matched by a command target. The target may be an entity selector or player name,
+	 * {@code perm:<permission>} to match players with a permission, or {@code group:<name>} to match players
+	 * with the {@code group.<name>} permission granted by permission plugins.
+	 *
+	 * @param sender the command sender, used as the selector origin
+	 * @param target the command target argument
+	 * @return list of matched players, which may be empty
+	 * @throws IllegalArgumentException if the target is not a valid entity selector
+	 */
+	protected List<Player> selectPlayers(final CommandSender sender, final String target)
+	{
+		final List<Player> players = new ArrayList<>();
+
+		if (target.startsWith("perm:") || target.startsWith("group:"))
+		{
+			final String permission = target.startsWith("perm:")
+					? target.substring("perm:".length())
+					: "group." + target.substring("group:".length());
+
+			for (Player player : ctx.plugin().getServer().getOnlinePlayers())
+			{
+				if (player.hasPermission(permission))
+				{
+					players.add(player);
+				}
+			}
+		}
+		else
+		{
+			for (Entity entity : ctx.plugin().getServer().selectEntities(sender, target))
+			{
+				if (entity instanceof Player player)
+				{
+					players.add(player);
+				}
+			}
+		}
+
+		return players;
+	}
+
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.commands.bukkit;
+
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.models.destination.ValidDestination;
+import com.winterhavenmc.lodestar.util.CommandCtx;
+import com.winterhavenmc.lodestar.util.Macro;
+import com.winterhavenmc.lodestar.util.MessageId;
+import com.winterhavenmc.lodestar.util.SoundId;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+
+/**
+ * Repeating task that gives copies of a single gift item to a group of players, a configured number of players
+ * per tick. Results are counted, and one summary message is sent to the command sender when the task completes.
+ * Players who leave the server before their batch runs are not counted in the total.
+ */
+final class BatchGiveTask extends BukkitRunnable
+{
+	private final CommandCtx ctx;
+	private final CommandSender sender;
+	private final ItemStack giftItem;
+	private final ValidDestination validDestination;
+	private final Deque<Player> pending;
+	private final int batchSize;
+	private int total;
+	private int given;
+	private int inventoryFull;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param ctx the command context
+	 * @param sender the command sender to receive the summary message
+	 * @param giftItem the item to give, which is copied for each player
+	 * @param validDestination the destination of the gift item
+	 * @param players the players to receive the gift
+	 */
+	BatchGiveTask(final CommandCtx ctx,
+	              final CommandSender sender,
+	              final ItemStack giftItem,
+	              final ValidDestination validDestination,
+	              final Collection<? extends Player> players)
+	{
+		this.ctx = ctx;
+		this.sender = sender;
+		this.giftItem = giftItem;
+		this.validDestination = validDestination;
+		this.pending = new ArrayDeque<>(players);
+		this.total = players.size();
+		this.batchSize = Math.max(1, ctx.plugin().getConfig().getInt("give-batch-size", 20));
+	}
+
+
+	@Override
+	public void run()
+	{
+		final long startTime = System.nanoTime();
+
+		for (int count = 0; count < batchSize && !pending.isEmpty(); count++)
+		{
+			give(pending.poll());
+		}
+
+		if (pending.isEmpty())
+		{
+			finish();
+		}
+
+		ctx.metrics().record(Operation.TASK_BATCH_GIVE, System.nanoTime() - startTime);
+	}
+
+
+	/**
+	 * Add a copy of the gift item to a player inventory, and count the result
+	 *
+	 * @param player the player to receive the gift
+	 */
+	private void give(final Player player)
+	{
+		if (!player.isOnline())
+		{
+			total--;
+			return;
+		}
+
+		// count items that didn't fit in inventory
+		int noFitCount = 0;
+		for (ItemStack itemStack : player.getInventory().addItem(giftItem.clone()).values())
+		{
+			noFitCount += itemStack.getAmount();
+		}
+
+		if (noFitCount >= giftItem.getAmount())
+		{
+			inventoryFull++;
+			return;
+		}
+
+		given++;
+
+		if (!player.equals(sender))
+		{
+			ctx.messageBuilder().compose(player, MessageId.COMMAND_SUCCESS_GIVE_TARGET)
+					.setMacro(Macro.PLAYER, sender)
+					.setMacro(Macro.ITEM, giftItem)
+					.setMacro(Macro.DESTINATION, validDestination)
+					.send();
+		}
+	}
+
+
+	/**
+	 * Cancel this task and send summary message
+	 */
+	private void finish()
+	{
+		cancel();
+
+		ctx.messageBuilder().sounds().play(sender, SoundId.COMMAND_SUCCESS_GIVE_SENDER);
+		ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_GIVE_GROUP)
+				.setMacro(Macro.ITEM, giftItem)
+				.setMacro(Macro.DESTINATION, validDestination)
+				.setMacro(Macro.COUNT, given)
+				.setMacro(Macro.TOTAL, total)
+				.setMacro(Macro.FAIL_COUNT, inventoryFull)
+				.send();
+	}
+
+}
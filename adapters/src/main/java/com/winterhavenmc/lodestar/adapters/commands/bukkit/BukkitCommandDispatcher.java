@@ -18,9 +18,13 @@
 package com.winterhavenmc.lodestar.adapters.commands.bukkit;
 
 import com.winterhavenmc.library.messagebuilder.MessageBuilder;
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+import com.winterhavenmc.lodestar.metrics.jfr.CommandExecutionEvent;
 import com.winterhavenmc.lodestar.ports.commands.CommandDispatcher;
 import com.winterhavenmc.lodestar.util.CommandCtx;
 import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
+import com.winterhavenmc.lodestar.ports.teleporter.TeleportHandler;
 import com.winterhavenmc.lodestar.util.LodeStarUtility;
 import com.winterhavenmc.lodestar.util.MessageId;
 import com.winterhavenmc.lodestar.util.SoundId;
@@ -40,6 +44,7 @@ import java.util.stream.Collectors;
 public final class BukkitCommandDispatcher implements TabExecutor, CommandDispatcher
 {
 	private final MessageBuilder messageBuilder;
+	private final OperationMetrics metrics;
 	private final SubcommandRegistry subcommandRegistry = new SubcommandRegistry();
 
 
@@ -49,14 +54,17 @@ public final class BukkitCommandDispatcher implements TabExecutor, CommandDispat
 	public BukkitCommandDispatcher(final JavaPlugin plugin,
 	                               final MessageBuilder messageBuilder,
 	                               final ConnectionProvider connectionProvider,
-	                               final LodeStarUtility lodeStarUtility)
+	                               final LodeStarUtility lodeStarUtility,
+	                               final TeleportHandler teleportHandler,
+	                               final OperationMetrics metrics)
 	{
 		this.messageBuilder = messageBuilder;
+		this.metrics = metrics;
 
 		// register this class as command executor
 		Objects.requireNonNull(plugin.getCommand("lodestar")).setExecutor(this);
 
-		CommandCtx commandCtx = new CommandCtx(plugin, messageBuilder, connectionProvider, lodeStarUtility);
+		CommandCtx commandCtx = new CommandCtx(plugin, messageBuilder, connectionProvider, lodeStarUtility, teleportHandler, metrics);
 
 		// register subcommands
 		subcommandRegistry.register(new BindSubcommand(commandCtx));
@@ -64,10 +72,12 @@ public final class BukkitCommandDispatcher implements TabExecutor, CommandDispat
 		subcommandRegistry.register(new DestroySubcommand(commandCtx));
 		subcommandRegistry.register(new GiveSubcommand(commandCtx));
 		subcommandRegistry.register(new ListSubcommand(commandCtx));
+		subcommandRegistry.register(new MetricsSubcommand(commandCtx));
 		subcommandRegistry.register(new ReloadSubcommand(commandCtx));
 		subcommandRegistry.register(new SetSubcommand(commandCtx));
 		subcommandRegistry.register(new StatusSubcommand(commandCtx));
 		subcommandRegistry.register(new TeleportSubcommand(commandCtx));
+		subcommandRegistry.register(new TeleportGroupSubcommand(commandCtx));
 		subcommandRegistry.register(new HelpSubcommand(commandCtx, subcommandRegistry));
 	}
 
@@ -79,27 +89,35 @@ public final class BukkitCommandDispatcher implements TabExecutor, CommandDispat
 	public List<String> onTabComplete(@Nonnull final CommandSender sender, @Nonnull final Command command,
 	                                  @Nonnull final String alias, final String[] args)
 	{
-		// if more than one argument, use tab completer of subcommand
-		if (args.length > 1)
+		final long startTime = System.nanoTime();
+		try
 		{
-			// get subcommand from map
-			Optional<Subcommand> optionalSubcommand = subcommandRegistry.getSubcommand(args[0]);
-
-			// if no subcommand returned from map, return empty list
-			if (optionalSubcommand.isEmpty())
+			// if more than one argument, use tab completer of subcommand
+			if (args.length > 1)
 			{
-				return Collections.emptyList();
-			}
+				// get subcommand from map
+				Optional<Subcommand> optionalSubcommand = subcommandRegistry.getSubcommand(args[0]);
 
-			// unwrap optional subcommand
-			Subcommand subcommand = optionalSubcommand.get();
+				// if no subcommand returned from map, return empty list
+				if (optionalSubcommand.isEmpty())
+				{
+					return Collections.emptyList();
+				}
 
-			// return subcommand tab completer output
-			return subcommand.onTabComplete(sender, command, alias, args);
-		}
+				// unwrap optional subcommand
+				Subcommand subcommand = optionalSubcommand.get();
 
-		// return list of subcommands for which sender has permission
-		return getMatchingSubcommandNames(sender, args[0]);
+				// return subcommand tab completer output
+				return subcommand.onTabComplete(sender, command, alias, args);
+			}
+
+			// return list of subcommands for which sender has permission
+			return getMatchingSubcommandNames(sender, args[0]);
+		}
+		finally
+		{
+			metrics.record(Operation.TAB_COMPLETE, System.nanoTime() - startTime, new Object[] { sender.getName(), args });
+		}
 	}
 
 
@@ -139,8 +157,21 @@ public final class BukkitCommandDispatcher implements TabExecutor, CommandDispat
 		}
 
 		// execute subcommand
+		final CommandExecutionEvent event = new CommandExecutionEvent();
+		event.begin();
+		final long startTime = System.nanoTime();
+
 		optionalSubcommand.ifPresent(subcommand -> subcommand.onCommand(sender, argsList));
 
+		metrics.record(Operation.COMMAND, System.nanoTime() - startTime, new Object[] { sender.getName(), args });
+		event.end();
+		if (event.shouldCommit())
+		{
+			event.subcommand = optionalSubcommand.map(Subcommand::getName).orElse(subcommandName);
+			event.sender = sender.getName();
+			event.commit();
+		}
+
 		return true;
 	}
 
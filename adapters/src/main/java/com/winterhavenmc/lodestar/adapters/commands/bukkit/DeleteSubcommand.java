@@ -92,8 +92,10 @@ final class DeleteSubcommand extends AbstractSubcommand
 					.send();
 		}
 		// if delete method returns valid destination, delete was successful
-		else if (ctx.datastore().destinations().delete(destinationKey) instanceof ValidDestination)
+		else if (ctx.datastore().destinations().delete(destinationKey) instanceof ValidDestination validDestination)
 		{
+			// prototype items are cached by display name, not by key
+			ctx.lodeStarUtility().invalidateItemCache(validDestination.displayName());
 			ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_DELETE)
 					.setMacro(Macro.DESTINATION, destinationKey)
 					.send();
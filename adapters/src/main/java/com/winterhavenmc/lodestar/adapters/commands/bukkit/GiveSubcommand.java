@@ -44,7 +44,7 @@ final class GiveSubcommand extends AbstractSubcommand
 		this.ctx = ctx;
 		this.name = "give";
 		this.permissionNode = "lodestar.give";
-		this.usageString = "/lodestar give <player> [quantity] [destination_name]";
+		this.usageString = "/lodestar give <player | selector | perm:<permission> | group:<name>> [quantity] [destination_name]";
 		this.description = MessageId.COMMAND_SUCCESS_HELP_GIVE;
 		this.minArgs = 1;
 	}
@@ -100,17 +100,31 @@ final class GiveSubcommand extends AbstractSubcommand
 			return true;
 		}
 
-		// get required argument target player name and remove from args list
-		String targetPlayerName = args.removeFirst();
+		// get required argument target and remove from args list
+		String target = args.removeFirst();
+
+		// get quantity if present
+		int quantity = 1;
+		if (!args.isEmpty() && isInteger(args.getFirst()))
+		{
+			quantity = Integer.parseInt(args.removeFirst());
+		}
+
+		// if target is a selector, permission or group, give to all matching players
+		if (isGroupTarget(target))
+		{
+			giveGroup(sender, target, quantity, args);
+			return true;
+		}
 
 		// get player by name
-		Player targetPlayer = ctx.plugin().getServer().getPlayer(targetPlayerName);
+		Player targetPlayer = ctx.plugin().getServer().getPlayer(target);
 
 		// if null, send player not found message and return
 		if (targetPlayer == null)
 		{
 			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_PLAYER_NOT_FOUND)
-					.setMacro(Macro.PLAYER, targetPlayerName)
+					.setMacro(Macro.PLAYER, target)
 					.send();
 			return true;
 		}
@@ -119,45 +133,78 @@ final class GiveSubcommand extends AbstractSubcommand
 		if (!targetPlayer.isOnline())
 		{
 			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_PLAYER_NOT_ONLINE)
-					.setMacro(Macro.PLAYER, targetPlayerName)
+					.setMacro(Macro.PLAYER, target)
 					.send();
 			return true;
 		}
 
-		// get quantity if present
-		int quantity = 1;
-		if (!args.isEmpty() && isInteger(args.getFirst()))
+		// get destination from item in hand if no remaining arguments, else parse remaining arguments as destination name
+		Optional<ValidDestination> destination = getGiftDestination(sender, args);
+		if (destination.isEmpty())
 		{
-			quantity = Integer.parseInt(args.removeFirst());
+			return true;
 		}
 
-		// if no remaining arguments, give item in hand
-		if (args.isEmpty())
+		// create gift item once, for both the gift and the messages
+		ValidDestination validDestination = destination.get();
+		ItemStack giftItem = createGiftItem(quantity, validDestination);
+
+		switch (giveNewItem(sender, targetPlayer, giftItem))
 		{
-			giveItemInHand(sender, quantity, targetPlayer);
+			case SUCCESS_GIVE_SELF -> sendSuccessGiveSelfMessage(sender, giftItem, validDestination);
+			case SUCCESS_GIVE_OTHER -> sendSuccessGiveOtherMessage(sender, targetPlayer, giftItem, validDestination);
+			case FAIL_INVALID_ITEM -> sendInvalidItemMessage(sender);
+			case FAIL_INVALID_DESTINATION -> sendInvalidDestinationMessage(sender);
+			case FAIL_INVENTORY_FULL -> sendInventoryFullMessage(sender);
 		}
-		// try to parse all remaining arguments as destinationName
-		else
+		return true;
+	}
+
+
+	/**
+	 * Give a LodeStar item to every player matched by a group target. One gift item is created, and copies are
+	 * added to player inventories in batches across ticks, with a single summary message sent on completion.
+	 *
+	 * @param sender the command sender
+	 * @param target the selector, permission or group target
+	 * @param quantity the number of items to give each player
+	 * @param args the remaining command arguments
+	 */
+	private void giveGroup(final CommandSender sender, final String target, final int quantity, final List<String> args)
+	{
+		final List<Player> players;
+		try
 		{
-			Destination destination = ctx.lodeStarUtility().getDestination(getEnteredName(args));
-			if (destination instanceof ValidDestination validDestination)
-			{
-				ItemStack giftItem = ctx.lodeStarUtility().create(quantity, validDestination.displayName());
-				switch (giveNewItem(sender, targetPlayer, quantity, validDestination))
-				{
-					case SUCCESS_GIVE_SELF -> sendSuccessGiveSelfMessage(sender, giftItem);
-					case SUCCESS_GIVE_OTHER -> sendSuccessGiveOtherMessage(sender, targetPlayer, giftItem);
-					case FAIL_INVALID_ITEM -> sendInvalidItemMessage(sender);
-					case FAIL_INVALID_DESTINATION -> sendInvalidDestinationMessage(sender);
-					case FAIL_INVENTORY_FULL -> sendInventoryFullMessage(sender);
-				}
-			}
-			else
-			{
-				sendInvalidItemMessage(sender);
-			}
+			players = selectPlayers(sender, target);
 		}
-		return true;
+		catch (IllegalArgumentException exception)
+		{
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_SELECTOR_INVALID)
+					.setMacro(Macro.FAIL_REASON, exception.getMessage())
+					.send();
+			return;
+		}
+
+		if (players.isEmpty())
+		{
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_SELECTOR_NO_PLAYERS).send();
+			return;
+		}
+
+		Optional<ValidDestination> destination = getGiftDestination(sender, args);
+		if (destination.isEmpty())
+		{
+			return;
+		}
+
+		ItemStack giftItem = createGiftItem(quantity, destination.get());
+		if (giftItem == null)
+		{
+			sendInvalidItemMessage(sender);
+			return;
+		}
+
+		new BatchGiveTask(ctx, sender, giftItem, destination.get(), players).runTaskTimer(ctx.plugin(), 1L, 1L);
 	}
 
 
@@ -176,34 +223,63 @@ final class GiveSubcommand extends AbstractSubcommand
 	}
 
 
-	private void giveItemInHand(CommandSender sender, int quantity, Player targetPlayer)
+	/**
+	 * Get the destination of the gift, from the remaining arguments, or from the item in the sender's hand
+	 * if there are no remaining arguments. Sends an error message if no valid destination is found.
+	 *
+	 * @param sender the command sender
+	 * @param args the remaining command arguments
+	 * @return {@link Optional} wrapped destination, or an empty optional if no valid destination was found
+	 */
+	private Optional<ValidDestination> getGiftDestination(final CommandSender sender, final List<String> args)
 	{
+		final Destination destination;
+
+		if (!args.isEmpty())
+		{
+			destination = ctx.lodeStarUtility().getDestination(getEnteredName(args));
+		}
 		// if sender is not player, send args-count-under error message
-		if (!(sender instanceof Player player))
+		else if (!(sender instanceof Player player))
 		{
 			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_ARGS_COUNT_UNDER).send();
 			displayUsage(sender);
+			return Optional.empty();
 		}
 		else
 		{
-			// get clone of item in player main hand
-			ItemStack giftItem = player.getInventory().getItemInMainHand().clone();
+			destination = ctx.lodeStarUtility().getDestination(player.getInventory().getItemInMainHand());
+		}
 
-			// get destination from item
-			Destination destination = ctx.lodeStarUtility().getDestination(giftItem);
+		if (destination instanceof ValidDestination validDestination)
+		{
+			return Optional.of(validDestination);
+		}
 
-			if (destination instanceof ValidDestination validDestination)
-			{
-				switch (giveNewItem(sender, targetPlayer, quantity, validDestination))
-				{
-					case SUCCESS_GIVE_SELF -> sendSuccessGiveSelfMessage(sender, giftItem);
-					case SUCCESS_GIVE_OTHER -> sendSuccessGiveOtherMessage(sender, targetPlayer, giftItem);
-					case FAIL_INVALID_ITEM -> sendInvalidItemMessage(sender);
-					case FAIL_INVALID_DESTINATION -> sendInvalidDestinationMessage(sender);
-					case FAIL_INVENTORY_FULL -> sendInventoryFullMessage(sender);
-				}
-			}
+		sendInvalidItemMessage(sender);
+		return Optional.empty();
+	}
+
+
+	/**
+	 * Create the gift item, limited to the configured max give amount
+	 *
+	 * @param quantity the requested quantity
+	 * @param validDestination the destination of the gift item
+	 * @return the gift item, or null if the item could not be created
+	 */
+	private ItemStack createGiftItem(final int quantity, final ValidDestination validDestination)
+	{
+		ItemStack itemStack = ctx.lodeStarUtility().create(quantity, validDestination.displayName());
+		int maxGiveAmount = ctx.plugin().getConfig().getInt("max-give-amount");
+
+		// check quantity against configured max give amount
+		if (itemStack != null && maxGiveAmount >= 0)
+		{
+			itemStack.setAmount(Math.min(maxGiveAmount, itemStack.getAmount()));
 		}
+
+		return itemStack;
 	}
 
 
@@ -212,40 +288,27 @@ final class GiveSubcommand extends AbstractSubcommand
 	 *
 	 * @param giver        the player issuing the command
 	 * @param targetPlayer the player being given item
-	 * @param quantity     the size of the new ItemStack
-	 * @return always returns {@code true}, to prevent display of bukkit usage message
+	 * @param giftItem     the item to give
+	 * @return the result of the give
 	 */
 	private GiveResult giveNewItem(final CommandSender giver,
 	                               final Player targetPlayer,
-	                               final int quantity,
-	                               final ValidDestination validDestination)
+	                               final ItemStack giftItem)
 	{
-		ItemStack itemStack = ctx.lodeStarUtility().create(quantity, validDestination.displayName());
-
-		if (itemStack != null)
+		if (giftItem != null)
 		{
-			int giveQuantity = itemStack.getAmount();
-			int maxGiveAmount = ctx.plugin().getConfig().getInt("max-give-amount");
-
-			// check quantity against configured max give amount
-			if (maxGiveAmount >= 0)
-			{
-				giveQuantity = Math.min(maxGiveAmount, giveQuantity);
-				itemStack.setAmount(giveQuantity);
-			}
-
-			// add stack of LodeStars to target player inventory
-			HashMap<Integer, ItemStack> noFit = targetPlayer.getInventory().addItem(itemStack);
+			// add copy of stack of LodeStars to target player inventory, leaving gift item intact for messages
+			HashMap<Integer, ItemStack> noFit = targetPlayer.getInventory().addItem(giftItem.clone());
 
 			// count items that didn't fit in inventory
 			int noFitCount = 0;
-			for (int index : noFit.keySet())
+			for (ItemStack itemStack : noFit.values())
 			{
-				noFitCount += noFit.get(index).getAmount();
+				noFitCount += itemStack.getAmount();
 			}
 
 			// if remaining items equals quantity given, send player-inventory-full message and return
-			if (noFitCount == quantity) return GiveResult.FAIL_INVENTORY_FULL;
+			if (noFitCount == giftItem.getAmount()) return GiveResult.FAIL_INVENTORY_FULL;
 			else if (giver.getName().equals(targetPlayer.getName())) return GiveResult.SUCCESS_GIVE_SELF;
 			else return GiveResult.SUCCESS_GIVE_OTHER;
 		}
@@ -256,46 +319,37 @@ final class GiveSubcommand extends AbstractSubcommand
 	}
 
 
-	private void sendSuccessGiveOtherMessage(final CommandSender sender, final Player targetPlayer, final ItemStack itemStack)
+	private void sendSuccessGiveOtherMessage(final CommandSender sender,
+	                                         final Player targetPlayer,
+	                                         final ItemStack itemStack,
+	                                         final ValidDestination validDestination)
 	{
-		if (ctx.lodeStarUtility().getDestination(itemStack) instanceof ValidDestination validDestination)
-		{
-			// send message to command sender
-			ctx.messageBuilder().sounds().play(sender, SoundId.COMMAND_SUCCESS_GIVE_SENDER);
-			ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_GIVE_OTHER)
-					.setMacro(Macro.PLAYER, targetPlayer)
-					.setMacro(Macro.ITEM, itemStack)
-					.setMacro(Macro.DESTINATION, validDestination)
-					.send();
-
-			// send message to gift recipient
-			ctx.messageBuilder().compose(targetPlayer, MessageId.COMMAND_SUCCESS_GIVE_TARGET)
-					.setMacro(Macro.PLAYER, sender)
-					.setMacro(Macro.ITEM, itemStack)
-					.setMacro(Macro.DESTINATION, validDestination)
-					.send();
-		}
-		else
-		{
-			sendInvalidDestinationMessage(sender);
-		}
+		// send message to command sender
+		ctx.messageBuilder().sounds().play(sender, SoundId.COMMAND_SUCCESS_GIVE_SENDER);
+		ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_GIVE_OTHER)
+				.setMacro(Macro.PLAYER, targetPlayer)
+				.setMacro(Macro.ITEM, itemStack)
+				.setMacro(Macro.DESTINATION, validDestination)
+				.send();
+
+		// send message to gift recipient
+		ctx.messageBuilder().compose(targetPlayer, MessageId.COMMAND_SUCCESS_GIVE_TARGET)
+				.setMacro(Macro.PLAYER, sender)
+				.setMacro(Macro.ITEM, itemStack)
+				.setMacro(Macro.DESTINATION, validDestination)
+				.send();
 	}
 
 
-	private void sendSuccessGiveSelfMessage(final CommandSender sender, final ItemStack itemStack)
+	private void sendSuccessGiveSelfMessage(final CommandSender sender,
+	                                        final ItemStack itemStack,
+	                                        final ValidDestination validDestination)
 	{
-		if (ctx.lodeStarUtility().getDestination(itemStack) instanceof ValidDestination validDestination)
-		{
-			ctx.messageBuilder().sounds().play(sender, SoundId.COMMAND_SUCCESS_GIVE_TARGET);
-			ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_GIVE_SELF)
-					.setMacro(Macro.ITEM, itemStack)
-					.setMacro(Macro.DESTINATION, validDestination)
-					.send();
-		}
-		else
-		{
-			sendInvalidDestinationMessage(sender);
-		}
+		ctx.messageBuilder().sounds().play(sender, SoundId.COMMAND_SUCCESS_GIVE_TARGET);
+		ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_GIVE_SELF)
+				.setMacro(Macro.ITEM, itemStack)
+				.setMacro(Macro.DESTINATION, validDestination)
+				.send();
 	}
 
 
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.commands.bukkit;
+
+import com.winterhavenmc.lodestar.metrics.LatencySnapshot;
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.util.CommandCtx;
+import com.winterhavenmc.lodestar.util.Macro;
+import com.winterhavenmc.lodestar.util.MessageId;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Metrics command implementation<br>
+ * displays operation latency percentiles over the last minute, or resets the recorded latencies
+ */
+final class MetricsSubcommand extends AbstractSubcommand
+{
+	private static final String RESET_OPTION = "reset";
+
+
+	/**
+	 * Class constructor
+	 */
+	MetricsSubcommand(final CommandCtx ctx)
+	{
+		this.ctx = ctx;
+		this.name = "metrics";
+		this.permissionNode = "lodestar.metrics";
+		this.usageString = "/lodestar metrics [reset]";
+		this.description = MessageId.COMMAND_SUCCESS_HELP_METRICS;
+		this.maxArgs = 1;
+	}
+
+
+	@Override
+	public List<String> onTabComplete(final CommandSender sender, final Command command,
+	                                  final String alias, final String[] args)
+	{
+		return (args.length == 2 && matchPrefix(RESET_OPTION, args[1]))
+				? List.of(RESET_OPTION)
+				: Collections.emptyList();
+	}
+
+
+	@Override
+	public boolean onCommand(final CommandSender sender, final List<String> args)
+	{
+		// if sender does not have permission to view metrics, send error message and return true
+		if (!sender.hasPermission(permissionNode))
+		{
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_METRICS_PERMISSION_DENIED).send();
+			return true;
+		}
+
+		// check max arguments
+		if (args.size() > getMaxArgs())
+		{
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_ARGS_COUNT_OVER).send();
+			displayUsage(sender);
+			return true;
+		}
+
+		// if reset option given, discard recorded latencies and return
+		if (!args.isEmpty())
+		{
+			if (args.getFirst().equalsIgnoreCase(RESET_OPTION))
+			{
+				ctx.metrics().reset();
+				ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_METRICS_RESET).send();
+			}
+			else
+			{
+				displayUsage(sender);
+			}
+			return true;
+		}
+
+		displayMetrics(sender);
+		return true;
+	}
+
+
+	private void displayMetrics(final CommandSender sender)
+	{
+		ctx.messageBuilder().compose(sender, MessageId.COMMAND_METRICS_HEADER).send();
+
+		boolean empty = true;
+		for (Operation operation : Operation.values())
+		{
+			LatencySnapshot window = ctx.metrics().windowSnapshot(operation);
+			LatencySnapshot total = ctx.metrics().totalSnapshot(operation);
+
+			// skip operations that have not been recorded since the last reset
+			if (total.isEmpty())
+			{
+				continue;
+			}
+
+			empty = false;
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_METRICS_OPERATION)
+					.setMacro(Macro.OPERATION, operation.displayName())
+					.setMacro(Macro.COUNT, window.count())
+					.setMacro(Macro.P50, formatNanos(window.p50()))
+					.setMacro(Macro.P99, formatNanos(window.p99()))
+					.setMacro(Macro.MAX, formatNanos(window.max()))
+					.setMacro(Macro.TOTAL, total.count())
+					.send();
+		}
+
+		if (empty)
+		{
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_METRICS_EMPTY).send();
+		}
+	}
+
+
+	/**
+	 * Format a latency with a unit suited to its magnitude
+	 *
+	 * @param nanos the latency in nanoseconds
+	 * @return the formatted latency
+	 */
+	static String formatNanos(final long nanos)
+	{
+		if (nanos < 1_000L) return nanos + " ns";
+		else if (nanos < 1_000_000L) return String.format(Locale.ROOT, "%.1f µs", nanos / 1_000.0);
+		else if (nanos < 1_000_000_000L) return String.format(Locale.ROOT, "%.2f ms", nanos / 1_000_000.0);
+		else return String.format(Locale.ROOT, "%.2f s", nanos / 1_000_000_000.0);
+	}
+
+}
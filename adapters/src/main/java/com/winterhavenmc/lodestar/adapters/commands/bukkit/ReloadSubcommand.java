@@ -70,6 +70,13 @@ final class ReloadSubcommand extends AbstractSubcommand
 		// reload messages
 		ctx.messageBuilder().reload();
 
+		// discard prototype items built from previous configuration
+		ctx.lodeStarUtility().invalidateItemCache();
+
+		// apply slow operation threshold from reloaded configuration
+		ctx.metrics().setSlowOperationThreshold(ctx.plugin().getConfig().getLong("slow-operation-threshold"));
+		ctx.metrics().tickBudgetTracker().ifPresent(tracker -> tracker.setBudget(ctx.plugin().getConfig().getLong("tick-budget")));
+
 		// send reloaded message
 		ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_RELOAD).send();
 
@@ -148,6 +148,7 @@ final class SetSubcommand extends AbstractSubcommand
 	private void sendSuccessMessage(CommandSender sender, StoredDestination storedDestination)
 	{
 		ctx.datastore().destinations().save(Collections.singleton(storedDestination));
+		ctx.lodeStarUtility().invalidateItemCache(storedDestination.displayName());
 		ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_SET)
 				.setMacro(Macro.DESTINATION, storedDestination)
 				.send();
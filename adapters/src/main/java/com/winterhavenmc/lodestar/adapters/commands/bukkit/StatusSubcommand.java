@@ -20,6 +20,7 @@ package com.winterhavenmc.lodestar.adapters.commands.bukkit;
 import com.winterhavenmc.library.messagebuilder.adapters.resources.configuration.BukkitConfigRepository;
 import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
 
+import com.winterhavenmc.lodestar.metrics.LatencySnapshot;
 import com.winterhavenmc.lodestar.util.CommandCtx;
 import com.winterhavenmc.lodestar.util.Macro;
 import com.winterhavenmc.lodestar.util.MessageId;
@@ -93,6 +94,7 @@ final class StatusSubcommand extends AbstractSubcommand
 		displayFromEndSetting(sender);
 		displayLightningSetting(sender);
 		displayEnabledWorlds(sender);
+		displayTickCost(sender);
 		displayStatusFooter(sender);
 
 		return true;
@@ -271,6 +273,22 @@ final class StatusSubcommand extends AbstractSubcommand
 	}
 
 
+	private void displayTickCost(final CommandSender sender)
+	{
+		ctx.metrics().tickBudgetTracker().ifPresent(tracker ->
+		{
+			LatencySnapshot tickCost = tracker.windowSnapshot();
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_STATUS_TICK_COST)
+					.setMacro(Macro.P50, MetricsSubcommand.formatNanos(tickCost.p50()))
+					.setMacro(Macro.P99, MetricsSubcommand.formatNanos(tickCost.p99()))
+					.setMacro(Macro.MAX, MetricsSubcommand.formatNanos(tickCost.max()))
+					.setMacro(Macro.COUNT, tracker.ticksOverBudget())
+					.setMacro(Macro.SETTING, ctx.plugin().getConfig().getLong("tick-budget") + " µs")
+					.send();
+		});
+	}
+
+
 	private void displayFromNetherSetting(final CommandSender sender)
 	{
 		ctx.messageBuilder().compose(sender, MessageId.COMMAND_STATUS_FROM_NETHER)
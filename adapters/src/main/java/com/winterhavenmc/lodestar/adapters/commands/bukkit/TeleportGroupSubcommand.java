@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.commands.bukkit;
+
+import com.winterhavenmc.lodestar.models.destination.Destination;
+import com.winterhavenmc.lodestar.models.destination.HomeDestination;
+import com.winterhavenmc.lodestar.models.destination.ValidDestination;
+import com.winterhavenmc.lodestar.util.CommandCtx;
+import com.winterhavenmc.lodestar.util.Macro;
+import com.winterhavenmc.lodestar.util.MessageId;
+import com.winterhavenmc.lodestar.util.SoundId;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * Teleport group command implementation<br>
+ * teleports all players matched by an entity selector to a destination, spread across ticks
+ */
+final class TeleportGroupSubcommand extends AbstractSubcommand
+{
+	TeleportGroupSubcommand(final CommandCtx ctx)
+	{
+		this.ctx = ctx;
+		this.name = "teleport-group";
+		this.aliases = Set.of("tpgroup");
+		this.permissionNode = "lodestar.teleport-group";
+		this.usageString = "/lodestar teleport-group <destination name> <selector | perm:<permission> | group:<name>>";
+		this.description = MessageId.COMMAND_SUCCESS_HELP_TELEPORT_GROUP;
+		this.minArgs = 2;
+	}
+
+
+	@Override
+	public List<String> onTabComplete(final CommandSender sender, final Command command,
+	                                  final String alias, final String[] args)
+	{
+		switch (args.length)
+		{
+			case 2 ->
+			{
+				// get list of all destination names, with spawn destination
+				List<String> destinationNames = new ArrayList<>(ctx.datastore().destinations().names());
+				destinationNames.addFirst(ctx.lodeStarUtility().spawnDisplayName());
+
+				return destinationNames.stream()
+						.filter(destinationName -> matchPrefix(destinationName, args[1]))
+						.collect(Collectors.toList());
+			}
+			case 3 ->
+			{
+				return Stream.concat(Stream.of("@a", "@p", "@r", "@s"),
+								ctx.plugin().getServer().getOnlinePlayers().stream().map(Player::getName))
+						.filter(selector -> matchPrefix(selector, args[2]))
+						.collect(Collectors.toList());
+			}
+			default ->
+			{
+				return Collections.emptyList();
+			}
+		}
+	}
+
+
+	@Override
+	public boolean onCommand(final CommandSender sender, final List<String> args)
+	{
+		// check for permission
+		if (!sender.hasPermission(permissionNode))
+		{
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_TELEPORT_GROUP_PERMISSION_DENIED).send();
+			return true;
+		}
+
+		// check min arguments
+		if (args.size() < getMinArgs())
+		{
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_ARGS_COUNT_UNDER).send();
+			displayUsage(sender);
+			return true;
+		}
+
+		// last argument is selector; join remaining arguments to get destination name
+		String selector = args.removeLast();
+		String destinationName = ctx.lodeStarUtility().deriveKey(args);
+
+		// get destination; home destinations are per player, and cannot be used for a group
+		Destination destination = ctx.lodeStarUtility().getDestination(destinationName);
+		if (!(destination instanceof ValidDestination validDestination) || destination instanceof HomeDestination)
+		{
+			sendInvalidDestinationMessage(sender, destinationName);
+			return true;
+		}
+
+		// get players matched by selector
+		final List<Player> players;
+		try
+		{
+			players = selectPlayers(sender, selector);
+		}
+		catch (IllegalArgumentException exception)
+		{
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_SELECTOR_INVALID)
+					.setMacro(Macro.FAIL_REASON, exception.getMessage())
+					.send();
+			return true;
+		}
+
+		if (players.isEmpty())
+		{
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_SELECTOR_NO_PLAYERS).send();
+			return true;
+		}
+
+		// start group teleport
+		if (!ctx.teleportHandler().teleportGroup(sender, validDestination, players))
+		{
+			sendInvalidDestinationMessage(sender, destinationName);
+		}
+
+		return true;
+	}
+
+
+	private void sendInvalidDestinationMessage(final CommandSender sender, final String destinationName)
+	{
+		ctx.messageBuilder().sounds().play(sender, SoundId.TELEPORT_DENIED_WORLD_DISABLED);
+		ctx.messageBuilder().compose(sender, MessageId.COMMAND_FAIL_INVALID_DESTINATION)
+				.setMacro(Macro.DESTINATION, destinationName)
+				.send();
+	}
+
+}
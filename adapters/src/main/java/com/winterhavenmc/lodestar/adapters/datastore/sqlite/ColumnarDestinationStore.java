@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.adapters.datastore.sqlite;
+
+import com.winterhavenmc.lodestar.models.destination.StoredDestination;
+import com.winterhavenmc.lodestar.models.location.ValidLocation;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * In-memory store of destinations in columnar form, for caches of very large destination sets. Coordinates,
+ * a small interned world index and the arena offset of each row are held in primitive columns outside the heap,
+ * and each destination key and display name is packed into an off-heap UTF-8 arena. The only per-destination
+ * heap state is one slot of the key index. A {@link StoredDestination} is materialized on each {@link #get},
+ * and is not retained by the store.
+ * <p>
+ * Rows are kept dense: a removed row is replaced by the last row. Arena space of replaced and removed entries
+ * is reclaimed by compaction once it exceeds the live entries. All methods are synchronized on the store,
+ * so callers may synchronize on it to make compound operations atomic.
+ */
+final class ColumnarDestinationStore
+{
+	private static final int INITIAL_CAPACITY = 256;
+	private static final int INITIAL_ARENA_BYTES = 16 * 1024;
+
+	// arena entry header: key length and display name length, in bytes
+	private static final int ENTRY_HEADER_BYTES = 2 * Integer.BYTES;
+
+	// coordinate columns
+	private ByteBuffer xs;
+	private ByteBuffer ys;
+	private ByteBuffer zs;
+	private ByteBuffer yaws;
+	private ByteBuffer pitches;
+
+	// interned world index, key hash and arena offset columns
+	private ByteBuffer worldIndexes;
+	private ByteBuffer keyHashes;
+	private ByteBuffer arenaOffsets;
+
+	// packed key and display name of each row
+	private ByteBuffer arena;
+	private int arenaSize;
+	private int arenaGarbage;
+
+	// open-addressing index of key hash to row number plus one, zero for an empty slot
+	private int[] index;
+	private int indexMask;
+
+	// interned worlds, of which there are only a handful
+	private UUID[] worldUids = new UUID[4];
+	private String[] worldNames = new String[4];
+	private int worldCount;
+
+	private int capacity;
+	private int size;
+
+
+	/**
+	 * Class constructor
+	 */
+	ColumnarDestinationStore()
+	{
+		capacity = INITIAL_CAPACITY;
+		xs = column(Double.BYTES);
+		ys = column(Double.BYTES);
+		zs = column(Double.BYTES);
+		yaws = column(Float.BYTES);
+		pitches = column(Float.BYTES);
+		worldIndexes = column(Integer.BYTES);
+		keyHashes = column(Integer.BYTES);
+		arenaOffsets = column(Integer.BYTES);
+		arena = allocate(INITIAL_ARENA_BYTES);
+		index = new int[capacity * 2];
+		indexMask = index.length - 1;
+	}
+
+
+	/**
+	 * Materialize the destination stored under a key
+	 *
+	 * @param key the case-folded destination key
+	 * @return a new {@link StoredDestination}, or {@code null} if no destination is stored under the key
+	 */
+	synchronized StoredDestination get(final String key)
+	{
+		final int slot = find(key, hash(key));
+		if (index[slot] == 0)
+		{
+			return null;
+		}
+
+		final int row = index[slot] - 1;
+		final int offset = arenaOffsets.getInt(row * Integer.BYTES);
+		final int keyLength = arena.getInt(offset);
+		final int nameLength = arena.getInt(offset + Integer.BYTES);
+		final int world = worldIndexes.getInt(row * Integer.BYTES);
+
+		return new StoredDestination(decode(offset + ENTRY_HEADER_BYTES + keyLength, nameLength),
+				new ValidLocation(worldNames[world], worldUids[world],
+						xs.getDouble(row * Double.BYTES),
+						ys.getDouble(row * Double.BYTES),
+						zs.getDouble(row * Double.BYTES),
+						yaws.getFloat(row * Float.BYTES),
+						pitches.getFloat(row * Float.BYTES)));
+	}
+
+
+	/**
+	 * Store a destination under a key, replacing any destination stored under the key
+	 *
+	 * @param key the case-folded destination key
+	 * @param storedDestination the destination
+	 */
+	synchronized void put(final String key, final StoredDestination storedDestination)
+	{
+		final int hash = hash(key);
+		int slot = find(key, hash);
+		final int row;
+
+		if (index[slot] != 0)
+		{
+			row = index[slot] - 1;
+			arenaGarbage += entryBytes(arenaOffsets.getInt(row * Integer.BYTES));
+		}
+		else
+		{
+			if (size == capacity)
+			{
+				grow();
+				slot = find(key, hash);
+			}
+			row = size++;
+			index[slot] = row + 1;
+		}
+
+		final ValidLocation location = storedDestination.location();
+		xs.putDouble(row * Double.BYTES, location.x());
+		ys.putDouble(row * Double.BYTES, location.y());
+		zs.putDouble(row * Double.BYTES, location.z());
+		yaws.putFloat(row * Float.BYTES, location.yaw());
+		pitches.putFloat(row * Float.BYTES, location.pitch());
+		worldIndexes.putInt(row * Integer.BYTES, internWorld(location.worldUid(), location.worldName()));
+		keyHashes.putInt(row * Integer.BYTES, hash);
+		arenaOffsets.putInt(row * Integer.BYTES, appendEntry(key.getBytes(UTF_8), storedDestination.displayName().getBytes(UTF_8)));
+
+		if (arenaGarbage > arenaSize / 2)
+		{
+			compactArena();
+		}
+	}
+
+
+	/**
+	 * Remove the destination stored under a key
+	 *
+	 * @param key the case-folded destination key
+	 * @return {@code true} if a destination was removed, {@code false} if none was stored under the key
+	 */
+	synchronized boolean remove(final String key)
+	{
+		final int slot = find(key, hash(key));
+		if (index[slot] == 0)
+		{
+			return false;
+		}
+
+		final int row = index[slot] - 1;
+		arenaGarbage += entryBytes(arenaOffsets.getInt(row * Integer.BYTES));
+		removeSlot(slot);
+
+		// keep rows dense by moving the last row into the removed row
+		final int last = --size;
+		if (row != last)
+		{
+			index[slotOfRow(last)] = row + 1;
+			copyRow(last, row);
+		}
+
+		return true;
+	}
+
+
+	/**
+	 * Get the number of stored destinations
+	 *
+	 * @return the number of stored destinations
+	 */
+	synchronized int size()
+	{
+		return size;
+	}
+
+
+	/**
+	 * Get the number of bytes allocated outside the heap for columns and the arena
+	 *
+	 * @return the number of off-heap bytes
+	 */
+	synchronized long offHeapBytes()
+	{
+		return (long) capacity * (3 * Double.BYTES + 2 * Float.BYTES + 3 * Integer.BYTES) + arena.capacity();
+	}
+
+
+	/**
+	 * Find the index slot of a key by linear probing
+	 *
+	 * @return the slot holding the key, or the empty slot where it would be inserted
+	 */
+	private int find(final String key, final int hash)
+	{
+		int slot = hash & indexMask;
+		while (index[slot] != 0)
+		{
+			final int row = index[slot] - 1;
+			if (keyHashes.getInt(row * Integer.BYTES) == hash && keyMatches(arenaOffsets.getInt(row * Integer.BYTES), key))
+			{
+				return slot;
+			}
+			slot = (slot + 1) & indexMask;
+		}
+		return slot;
+	}
+
+
+	/**
+	 * Find the index slot referring to a row
+	 */
+	private int slotOfRow(final int row)
+	{
+		int slot = keyHashes.getInt(row * Integer.BYTES) & indexMask;
+		while (index[slot] != row + 1)
+		{
+			slot = (slot + 1) & indexMask;
+		}
+		return slot;
+	}
+
+
+	/**
+	 * Empty an index slot, shifting later slots of the same probe sequence back so no tombstone is left
+	 */
+	private void removeSlot(final int removed)
+	{
+		int gap = removed;
+		int slot = (gap + 1) & indexMask;
+		while (index[slot] != 0)
+		{
+			final int home = keyHashes.getInt((index[slot] - 1) * Integer.BYTES) & indexMask;
+			if (((slot - home) & indexMask) >= ((slot - gap) & indexMask))
+			{
+				index[gap] = index[slot];
+				gap = slot;
+			}
+			slot = (slot + 1) & indexMask;
+		}
+		index[gap] = 0;
+	}
+
+
+	/**
+	 * Compare the key of an arena entry with a key. An ascii key encodes to one byte per char, so is compared
+	 * in place; any other key is compared after decoding the entry.
+	 */
+	private boolean keyMatches(final int offset, final String key)
+	{
+		final int keyLength = arena.getInt(offset);
+		if (keyLength < key.length())
+		{
+			return false;
+		}
+
+		if (keyLength > key.length())
+		{
+			return decode(offset + ENTRY_HEADER_BYTES, keyLength).equals(key);
+		}
+
+		for (int i = 0; i < keyLength; i++)
+		{
+			final char c = key.charAt(i);
+			if (c >= 0x80 || arena.get(offset + ENTRY_HEADER_BYTES + i) != (byte) c)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	private int internWorld(final UUID worldUid, final String worldName)
+	{
+		for (int world = 0; world < worldCount; world++)
+		{
+			if (worldUids[world].equals(worldUid))
+			{
+				// a renamed world keeps its uid
+				if (!worldNames[world].equals(worldName))
+				{
+					worldNames[world] = worldName;
+				}
+				return world;
+			}
+		}
+
+		if (worldCount == worldUids.length)
+		{
+			worldUids = Arrays.copyOf(worldUids, worldCount * 2);
+			worldNames = Arrays.copyOf(worldNames, worldCount * 2);
+		}
+		worldUids[worldCount] = worldUid;
+		worldNames[worldCount] = worldName;
+		return worldCount++;
+	}
+
+
+	private int appendEntry(final byte[] key, final byte[] name)
+	{
+		final int entryBytes = ENTRY_HEADER_BYTES + key.length + name.length;
+		if (arenaSize + entryBytes > arena.capacity())
+		{
+			final ByteBuffer grown = allocate(Math.max(arena.capacity() * 2, arenaSize + entryBytes));
+			grown.put(0, arena, 0, arenaSize);
+			arena = grown;
+		}
+
+		final int offset = arenaSize;
+		arena.putInt(offset, key.length);
+		arena.putInt(offset + Integer.BYTES, name.length);
+		arena.put(offset + ENTRY_HEADER_BYTES, key);
+		arena.put(offset + ENTRY_HEADER_BYTES + key.length, name);
+		arenaSize += entryBytes;
+		return offset;
+	}
+
+
+	private int entryBytes(final int offset)
+	{
+		return ENTRY_HEADER_BYTES + arena.getInt(offset) + arena.getInt(offset + Integer.BYTES);
+	}
+
+
+	private String decode(final int offset, final int length)
+	{
+		final byte[] bytes = new byte[length];
+		arena.get(offset, bytes);
+		return new String(bytes, UTF_8);
+	}
+
+
+	/**
+	 * Copy the live entries of the arena, in row order, into a new arena
+	 */
+	private void compactArena()
+	{
+		final ByteBuffer compacted = allocate(Math.max(INITIAL_ARENA_BYTES, (arenaSize - arenaGarbage) * 2));
+		int compactedSize = 0;
+		for (int row = 0; row < size; row++)
+		{
+			final int offset = arenaOffsets.getInt(row * Integer.BYTES);
+			final int entryBytes = entryBytes(offset);
+			compacted.put(compactedSize, arena, offset, entryBytes);
+			arenaOffsets.putInt(row * Integer.BYTES, compactedSize);
+			compactedSize += entryBytes;
+		}
+		arena = compacted;
+		arenaSize = compactedSize;
+		arenaGarbage = 0;
+	}
+
+
+	private void copyRow(final int from, final int to)
+	{
+		xs.putDouble(to * Double.BYTES, xs.getDouble(from * Double.BYTES));
+		ys.putDouble(to * Double.BYTES, ys.getDouble(from * Double.BYTES));
+		zs.putDouble(to * Double.BYTES, zs.getDouble(from * Double.BYTES));
+		yaws.putFloat(to * Float.BYTES, yaws.getFloat(from * Float.BYTES));
+		pitches.putFloat(to * Float.BYTES, pitches.getFloat(from * Float.BYTES));
+		worldIndexes.putInt(to * Integer.BYTES, worldIndexes.getInt(from * Integer.BYTES));
+		keyHashes.putInt(to * Integer.BYTES, keyHashes.getInt(from * Integer.BYTES));
+		arenaOffsets.putInt(to * Integer.BYTES, arenaOffsets.getInt(from * Integer.BYTES));
+	}
+
+
+	/**
+	 * Double the capacity of every column, and rebuild the index at twice the row capacity
+	 */
+	private void grow()
+	{
+		capacity *= 2;
+		xs = grown(xs, Double.BYTES);
+		ys = grown(ys, Double.BYTES);
+		zs = grown(zs, Double.BYTES);
+		yaws = grown(yaws, Float.BYTES);
+		pitches = grown(pitches, Float.BYTES);
+		worldIndexes = grown(worldIndexes, Integer.BYTES);
+		keyHashes = grown(keyHashes, Integer.BYTES);
+		arenaOffsets = grown(arenaOffsets, Integer.BYTES);
+
+		index = new int[capacity * 2];
+		indexMask = index.length - 1;
+		for (int row = 0; row < size; row++)
+		{
+			int slot = keyHashes.getInt(row * Integer.BYTES) & indexMask;
+			while (index[slot] != 0)
+			{
+				slot = (slot + 1) & indexMask;
+			}
+			index[slot] = row + 1;
+		}
+	}
+
+
+	private ByteBuffer grown(final ByteBuffer column, final int width)
+	{
+		final ByteBuffer grown = column(width);
+		grown.put(0, column, 0, size * width);
+		return grown;
+	}
+
+
+	private ByteBuffer column(final int width)
+	{
+		return allocate(capacity * width);
+	}
+
+
+	private static ByteBuffer allocate(final int bytes)
+	{
+		return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+	}
+
+
+	private static int hash(final String key)
+	{
+		final int hash = key.hashCode() * 0x9e3779b9;
+		return hash ^ (hash >>> 16);
+	}
+
+}
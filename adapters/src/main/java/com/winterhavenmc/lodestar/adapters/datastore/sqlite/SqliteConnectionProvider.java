@@ -20,6 +20,9 @@ package com.winterhavenmc.lodestar.adapters.datastore.sqlite;
 import com.winterhavenmc.library.messagebuilder.adapters.resources.configuration.BukkitConfigRepository;
 import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
 import com.winterhavenmc.lodestar.models.destination.*;
+import com.winterhavenmc.lodestar.models.location.WorldInterner;
+import com.winterhavenmc.lodestar.models.location.WorldRegistry;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
 import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
 import com.winterhavenmc.lodestar.ports.datastore.DestinationRepository;
 
@@ -44,6 +47,7 @@ public class SqliteConnectionProvider implements ConnectionProvider
 	private final Logger logger;
 	private final String dataFilePath;
 	private final ConfigRepository configRepository;
+	private final OperationMetrics metrics;
 	private Connection connection;
 	private boolean initialized;
 	private DestinationRepository destinationRepository;
@@ -53,13 +57,14 @@ public class SqliteConnectionProvider implements ConnectionProvider
 	 * Class constructor
 	 *
 	 */
-	public SqliteConnectionProvider(final Plugin plugin)
+	public SqliteConnectionProvider(final Plugin plugin, final OperationMetrics metrics)
 	{
 		this.plugin = plugin;
 		this.logger = plugin.getLogger();
 		this.server = plugin.getServer();
 		this.dataFilePath = plugin.getDataFolder() + File.separator + "destinations.db";
 		this.configRepository = BukkitConfigRepository.create(plugin);
+		this.metrics = metrics;
 
 		// initialize data store
 		try
@@ -116,15 +121,20 @@ public class SqliteConnectionProvider implements ConnectionProvider
 		// create a database connection
 		connection = DriverManager.getConnection(dbUrl);
 
+		// instantiate datastore adapters, used by schema migration
+		final SqliteDestinationRepository sqliteDestinationRepository =
+				new SqliteDestinationRepository(plugin, connection, configRepository, metrics);
+		this.destinationRepository = sqliteDestinationRepository;
+
 		// update database schema if necessary
 		updateSchema();
 
+		// count destination records once the schema is current
+		sqliteDestinationRepository.countDestinations();
+
 		// set initialized true
 		initialized = true;
 
-		// instantiate datastore adapters
-		this.destinationRepository = new SqliteDestinationRepository(plugin, connection, configRepository);
-
 		// output log message
 		logger.info(SqliteMessage.DATASTORE_INITIALIZED_NOTICE.getLocalizedMessage(configRepository.logLocale(), datastoreName));
 	}
@@ -174,7 +184,18 @@ public class SqliteConnectionProvider implements ConnectionProvider
 				Collection<StoredDestination> existingRecords = getAll();
 				statement.executeUpdate(SqliteQueries.getQuery("DropDestinationTable"));
 				statement.executeUpdate(SqliteQueries.getQuery("CreateDestinationTable"));
-				count = destinationRepository.save(existingRecords);
+
+				// save migrated records in a single transaction, instead of committing each record
+				connection.setAutoCommit(false);
+				try
+				{
+					count = destinationRepository.save(existingRecords);
+					connection.commit();
+				}
+				finally
+				{
+					connection.setAutoCommit(true);
+				}
 				logger.info(count + " destination records migrated to schema v1");
 			}
 
@@ -266,14 +287,11 @@ public class SqliteConnectionProvider implements ConnectionProvider
 				float yaw = resultSet.getFloat("yaw");
 				float pitch = resultSet.getFloat("pitch");
 
-				// reconstitute world uid from components
-				UUID worldUid = new UUID(worldUidMsb, worldUidLsb);
-
-				// get world
-				World world = server.getWorld(worldUid);
+				// reconstitute world uid from components, sharing one instance per world
+				UUID worldUid = WorldInterner.uid(worldUidMsb, worldUidLsb);
 
-				// if world is null, set worldValid false and log warning
-				if (world == null)
+				// if world is not loaded, log warning
+				if (!WorldRegistry.isLoaded(worldUid))
 				{
 					logger.warning("Stored destination has invalid world: " + worldName);
 				}
@@ -23,11 +23,16 @@ import com.winterhavenmc.lodestar.models.destination.Destination;
 import com.winterhavenmc.lodestar.models.destination.InvalidDestination;
 import com.winterhavenmc.lodestar.models.destination.StoredDestination;
 import com.winterhavenmc.lodestar.models.destination.ValidDestination;
+import com.winterhavenmc.lodestar.models.location.WorldInterner;
+import com.winterhavenmc.lodestar.models.location.WorldRegistry;
+import com.winterhavenmc.lodestar.metrics.Counter;
+import com.winterhavenmc.lodestar.metrics.Gauge;
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+import com.winterhavenmc.lodestar.metrics.jfr.DatastoreQueryEvent;
 import com.winterhavenmc.lodestar.ports.datastore.DestinationRepository;
 
 import org.bukkit.ChatColor;
-import org.bukkit.Server;
-import org.bukkit.World;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.Plugin;
 
@@ -36,6 +41,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import static com.winterhavenmc.lodestar.adapters.datastore.sqlite.SqliteMessage.datastoreName;
@@ -44,29 +51,64 @@ import static com.winterhavenmc.lodestar.adapters.datastore.sqlite.SqliteMessage
 final class SqliteDestinationRepository implements DestinationRepository
 {
 	private final Logger logger;
-	private final Server server;
 	private final FileConfiguration config;
 	private final Connection connection;
 	private final ConfigRepository configRepository;
+	private final OperationMetrics metrics;
 	private final SqliteDestinationQueryExecutor queryExecutor = new SqliteDestinationQueryExecutor();
 
+	// cache of stored destinations in columnar form, keyed by case-folded destination key
+	private final ColumnarDestinationStore destinationCache = new ColumnarDestinationStore();
+
+	// incremented after every write, so a lookup that raced a write does not cache the row it read
+	private final AtomicLong writeGeneration = new AtomicLong();
+
+	// number of destination records, counted at startup and after each save, and adjusted on delete
+	private final AtomicInteger destinationCount = new AtomicInteger();
+
 
 	/**
 	 * Class constructor
 	 *
 	 */
-	SqliteDestinationRepository(final Plugin plugin, final Connection connection, final ConfigRepository configRepository)
+	SqliteDestinationRepository(final Plugin plugin,
+	                            final Connection connection,
+	                            final ConfigRepository configRepository,
+	                            final OperationMetrics metrics)
 	{
 		this.logger = plugin.getLogger();
-		this.server = plugin.getServer();
 		this.config = plugin.getConfig();
 		this.connection = connection;
 		this.configRepository = configRepository;
+		this.metrics = metrics;
+
+		metrics.registerGauge(Gauge.DESTINATION_CACHE_SIZE, destinationCache::size);
 	}
 
 
 	@Override
 	public int save(final Collection<StoredDestination> storedDestinations)
+	{
+		final DatastoreQueryEvent event = new DatastoreQueryEvent();
+		event.begin();
+		final long startTime = System.nanoTime();
+
+		int count = insertDestinations(storedDestinations);
+
+		// an insert may replace an existing record, so count again rather than adding
+		if (count > 0)
+		{
+			countDestinations();
+		}
+
+		// record the number of destinations, since a bulk save may hold every destination
+		metrics.record(Operation.DATASTORE_SAVE, System.nanoTime() - startTime, storedDestinations.size());
+		commitEvent(event, "save", null, count);
+		return count;
+	}
+
+
+	private int insertDestinations(final Collection<StoredDestination> storedDestinations)
 	{
 		// if destinations is null return zero record count
 		if (storedDestinations == null)
@@ -81,6 +123,8 @@ final class SqliteDestinationRepository implements DestinationRepository
 			try (PreparedStatement preparedStatement = connection.prepareStatement(SqliteQueries.getQuery("InsertDestination")))
 			{
 				count += queryExecutor.insertRecords(storedDestination, preparedStatement);
+				writeGeneration.incrementAndGet();
+				destinationCache.put(cacheKey(storedDestination.key()), storedDestination);
 			}
 			catch (SQLException sqlException)
 			{
@@ -94,12 +138,43 @@ final class SqliteDestinationRepository implements DestinationRepository
 
 	@Override
 	public Destination get(final String key)
+	{
+		final DatastoreQueryEvent event = new DatastoreQueryEvent();
+		event.begin();
+		final long startTime = System.nanoTime();
+
+		Destination destination = selectDestination(key);
+
+		metrics.record(Operation.DATASTORE_GET, System.nanoTime() - startTime, key);
+		commitEvent(event, "get", key, (destination instanceof ValidDestination) ? 1 : 0);
+		return destination;
+	}
+
+
+	private Destination selectDestination(final String key)
 	{
 		if (key == null) return new InvalidDestination("UNKNOWN", "Key was null");
 
 		// derive key in case destination name was passed
 		String derivedKey = deriveKey(key);
 
+		// generation of the rows the query below can read
+		final long generation = writeGeneration.get();
+
+		// return cached destination if present and its world is still loaded
+		StoredDestination cachedDestination = destinationCache.get(cacheKey(derivedKey));
+		if (cachedDestination != null)
+		{
+			if (isWorldLoaded(cachedDestination))
+			{
+				metrics.increment(Counter.DESTINATION_CACHE_HIT);
+				return cachedDestination;
+			}
+			else destinationCache.remove(cacheKey(derivedKey));
+		}
+
+		metrics.increment(Counter.DESTINATION_CACHE_MISS);
+
 		Destination destination = null;
 
 		try (PreparedStatement preparedStatement = connection.prepareStatement(SqliteQueries.getQuery("SelectDestination")))
@@ -129,14 +204,11 @@ final class SqliteDestinationRepository implements DestinationRepository
 				float yaw = resultSet.getFloat("yaw");
 				float pitch = resultSet.getFloat("pitch");
 
-				// reconstitute world uid from components
-				UUID worldUid = new UUID(worldUidMsb, worldUidLsb);
-
-				// get world
-				World world = server.getWorld(worldUid);
+				// reconstitute world uid from components, sharing one instance per world
+				UUID worldUid = WorldInterner.uid(worldUidMsb, worldUidLsb);
 
-				// if world is null, set worldValid false and log warning
-				if (world == null)
+				// if world is not loaded, log warning
+				if (!WorldRegistry.isLoaded(worldUid))
 				{
 					logger.warning("Stored validDestination has invalid world: " + worldName);
 				}
@@ -155,6 +227,18 @@ final class SqliteDestinationRepository implements DestinationRepository
 
 		return switch (destination)
 		{
+			case StoredDestination storedDestination ->
+			{
+				// cache unless a write completed during the query, leaving the write to update the cache
+				synchronized (destinationCache)
+				{
+					if (writeGeneration.get() == generation)
+					{
+						destinationCache.put(cacheKey(derivedKey), storedDestination);
+					}
+				}
+				yield storedDestination;
+			}
 			case ValidDestination validDestination -> validDestination;
 			case InvalidDestination invalidDestination -> invalidDestination;
 			case null -> new InvalidDestination(key, "Could not retrieve destination for key");
@@ -164,6 +248,20 @@ final class SqliteDestinationRepository implements DestinationRepository
 
 	@Override
 	public List<String> names()
+	{
+		final DatastoreQueryEvent event = new DatastoreQueryEvent();
+		event.begin();
+		final long startTime = System.nanoTime();
+
+		List<String> names = selectNames();
+
+		metrics.record(Operation.DATASTORE_NAMES, System.nanoTime() - startTime);
+		commitEvent(event, "names", null, names.size());
+		return names;
+	}
+
+
+	private List<String> selectNames()
 	{
 		List<String> returnList = new ArrayList<>();
 
@@ -187,8 +285,51 @@ final class SqliteDestinationRepository implements DestinationRepository
 	}
 
 
+	@Override
+	public int count()
+	{
+		return destinationCount.get();
+	}
+
+
+	/**
+	 * Count destination records in the datastore, replacing the count held in memory. Called once the schema
+	 * is current, and after each save.
+	 */
+	void countDestinations()
+	{
+		try (PreparedStatement preparedStatement = connection.prepareStatement(SqliteQueries.getQuery("CountDestinations")))
+		{
+			ResultSet resultSet = preparedStatement.executeQuery();
+			if (resultSet.next())
+			{
+				destinationCount.set(resultSet.getInt(1));
+			}
+		}
+		catch (SQLException sqlException)
+		{
+			logger.warning(SqliteMessage.SELECT_ALL_RECORDS_ERROR.getLocalizedMessage(configRepository.logLocale(), datastoreName));
+			logger.warning(sqlException.getLocalizedMessage());
+		}
+	}
+
+
 	@Override
 	public Destination delete(final String passedKey)
+	{
+		final DatastoreQueryEvent event = new DatastoreQueryEvent();
+		event.begin();
+		final long startTime = System.nanoTime();
+
+		Destination destination = deleteDestination(passedKey);
+
+		metrics.record(Operation.DATASTORE_DELETE, System.nanoTime() - startTime, passedKey);
+		commitEvent(event, "delete", passedKey, (destination instanceof ValidDestination) ? 1 : 0);
+		return destination;
+	}
+
+
+	private Destination deleteDestination(final String passedKey)
 	{
 		// if key is null return invalid destination
 		if (passedKey == null) { return new InvalidDestination(DefaultSymbol.NULL.symbol(), "Key was null."); }
@@ -203,6 +344,9 @@ final class SqliteDestinationRepository implements DestinationRepository
 			try (PreparedStatement preparedStatement = connection.prepareStatement(SqliteQueries.getQuery("DeleteDestination")))
 			{
 				int rowsAffected = queryExecutor.deleteRecords(key, preparedStatement);
+				writeGeneration.incrementAndGet();
+				destinationCache.remove(cacheKey(key));
+				destinationCount.addAndGet(-rowsAffected);
 
 				// output debugging information
 				if (config.getBoolean("debug"))
@@ -221,6 +365,61 @@ final class SqliteDestinationRepository implements DestinationRepository
 	}
 
 
+	/**
+	 * Commit a flight recorder event for a repository query, if the event is enabled and over its threshold.
+	 * Fields are only assigned when the event will be committed.
+	 *
+	 * @param event the event begun before the query
+	 * @param query the name of the query
+	 * @param key the destination key, or null if the query has no key
+	 * @param rows the number of destinations returned, saved or deleted
+	 */
+	private static void commitEvent(final DatastoreQueryEvent event, final String query, final String key, final int rows)
+	{
+		event.end();
+		if (event.shouldCommit())
+		{
+			event.query = query;
+			event.key = key;
+			event.rows = rows;
+			event.commit();
+		}
+	}
+
+
+	/**
+	 * Fold the case of a destination key to match the {@code LOWER(key)} comparison used by the select query,
+	 * which only folds ASCII characters
+	 *
+	 * @param key the destination key
+	 * @return the case-folded key
+	 */
+	private static String cacheKey(final String key)
+	{
+		final char[] chars = key.toCharArray();
+		for (int i = 0; i < chars.length; i++)
+		{
+			if (chars[i] >= 'A' && chars[i] <= 'Z')
+			{
+				chars[i] = (char) (chars[i] + ('a' - 'A'));
+			}
+		}
+		return new String(chars);
+	}
+
+
+	/**
+	 * Check that the world of a cached destination has not been unloaded since it was cached
+	 *
+	 * @param storedDestination the cached destination
+	 * @return true if the world of the destination is loaded, false if not
+	 */
+	private static boolean isWorldLoaded(final StoredDestination storedDestination)
+	{
+		return WorldRegistry.isLoaded(storedDestination.location().worldUid());
+	}
+
+
 	/**
 	 * Derive key from destination display name<br>
 	 * strips color codes and replaces spaces with underscores<br>
@@ -24,13 +24,14 @@ import java.util.Properties;
 
 
 /**
- * Fetch database queries from properties file
+ * Fetch database queries from properties file. The file is loaded once, on first use from any thread,
+ * and the loaded queries are only published when complete.
  */
 final class SqliteQueries
 {
 	private static final String propFileName = "queries.properties";
 
-	private static Properties properties;
+	private static volatile Properties properties;
 
 
 	/**
@@ -44,27 +45,40 @@ final class SqliteQueries
 	private static Properties getQueries() throws SQLException
 	{
 		// singleton
-		if (properties == null)
+		Properties loaded = properties;
+		if (loaded == null)
 		{
-			properties = new Properties();
-			try
+			synchronized (SqliteQueries.class)
 			{
-				InputStream inputStream = SqliteQueries.class
-						.getResourceAsStream("/" + propFileName);
-
-				if (inputStream == null)
+				loaded = properties;
+				if (loaded == null)
 				{
-					throw new SQLException("Unable to load property file: " + propFileName);
+					loaded = loadQueries();
+					properties = loaded;
 				}
-				properties.load(inputStream);
 			}
-			catch (IOException e)
+		}
+
+		return loaded;
+	}
+
+	private static Properties loadQueries() throws SQLException
+	{
+		Properties loaded = new Properties();
+		try (InputStream inputStream = SqliteQueries.class.getResourceAsStream("/" + propFileName))
+		{
+			if (inputStream == null)
 			{
 				throw new SQLException("Unable to load property file: " + propFileName);
 			}
+			loaded.load(inputStream);
+		}
+		catch (IOException e)
+		{
+			throw new SQLException("Unable to load property file: " + propFileName);
 		}
 
-		return properties;
+		return loaded;
 	}
 
 	static String getQuery(final String query) throws SQLException
@@ -18,6 +18,9 @@
 package com.winterhavenmc.lodestar.adapters.listeners.bukkit;
 
 import com.winterhavenmc.library.messagebuilder.MessageBuilder;
+import com.winterhavenmc.lodestar.metrics.Counter;
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
 import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
 import com.winterhavenmc.lodestar.util.LodeStarUtility;
 import com.winterhavenmc.lodestar.util.TeleportCtx;
@@ -32,12 +35,17 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.inventory.PrepareItemCraftEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 
 /**
@@ -59,10 +67,11 @@ public final class BukkitPlayerEventListener implements PlayerEventListener
 	                                 final MessageBuilder messageBuilder,
 	                                 final ConnectionProvider connectionProvider,
 	                                 final LodeStarUtility lodeStarUtility,
-	                                 final TeleportHandler teleportHandler)
+	                                 final TeleportHandler teleportHandler,
+	                                 final OperationMetrics metrics)
 	{
 		this.teleportHandler = teleportHandler;
-		this.ctx = new TeleportCtx(plugin, messageBuilder, connectionProvider, lodeStarUtility);
+		this.ctx = new TeleportCtx(plugin, messageBuilder, connectionProvider, lodeStarUtility, metrics);
 
 		// register events in this class
 		plugin.getServer().getPluginManager().registerEvents(this, plugin);
@@ -78,8 +87,37 @@ public final class BukkitPlayerEventListener implements PlayerEventListener
 	@Override
 	public void onPlayerDeath(final PlayerDeathEvent event)
 	{
-		// cancel any pending teleport for player
-		teleportHandler.cancelTeleport(event.getEntity());
+		final long startTime = System.nanoTime();
+		try
+		{
+			// cancel any pending teleport for player
+			teleportHandler.cancelTeleport(event.getEntity(), Counter.TELEPORT_CANCELLED_DEATH);
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_PLAYER_DEATH, System.nanoTime() - startTime, event.getEntity());
+		}
+	}
+
+
+	/**
+	 * open player teleport session when player joins server
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler
+	@Override
+	public void onPlayerJoin(final PlayerJoinEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			teleportHandler.openSession(event.getPlayer());
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_PLAYER_JOIN, System.nanoTime() - startTime, event.getPlayer());
+		}
 	}
 
 
@@ -92,8 +130,74 @@ public final class BukkitPlayerEventListener implements PlayerEventListener
 	@Override
 	public void onPlayerQuit(final PlayerQuitEvent event)
 	{
-		// cancel any pending teleport for player
-		teleportHandler.cancelTeleport(event.getPlayer());
+		final long startTime = System.nanoTime();
+		try
+		{
+			// cancel any pending teleport for player
+			teleportHandler.cancelTeleport(event.getPlayer(), Counter.TELEPORT_CANCELLED_QUIT);
+
+			// cancel any destination prefetch for player
+			teleportHandler.cancelPrefetch(event.getPlayer());
+
+			// close player teleport session
+			teleportHandler.closeSession(event.getPlayer());
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_PLAYER_QUIT, System.nanoTime() - startTime, event.getPlayer());
+		}
+	}
+
+
+	/**
+	 * Prefetch destination when a LodeStar item is selected in the hotbar
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(ignoreCancelled = true)
+	@Override
+	public void onPlayerItemHeld(final PlayerItemHeldEvent event)
+	{
+		final long startTime = System.nanoTime();
+		final Player player = event.getPlayer();
+		teleportHandler.prefetchDestination(player, player.getInventory().getItem(event.getNewSlot()));
+		ctx.metrics().record(Operation.EVENT_ITEM_HELD, System.nanoTime() - startTime, player);
+	}
+
+
+	/**
+	 * Prefetch destination when a LodeStar item is swapped into the main hand
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(ignoreCancelled = true)
+	@Override
+	public void onPlayerSwapHandItems(final PlayerSwapHandItemsEvent event)
+	{
+		final long startTime = System.nanoTime();
+		teleportHandler.prefetchDestination(event.getPlayer(), event.getMainHandItem());
+		ctx.metrics().record(Operation.EVENT_SWAP_HANDS, System.nanoTime() - startTime, event.getPlayer());
+	}
+
+
+	/**
+	 * Cancel destination prefetch when player teleports
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(ignoreCancelled = true)
+	@Override
+	public void onPlayerTeleport(final PlayerTeleportEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			teleportHandler.cancelPrefetch(event.getPlayer());
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_PLAYER_TELEPORT, System.nanoTime() - startTime, event.getPlayer());
+		}
 	}
 
 
@@ -105,6 +209,20 @@ public final class BukkitPlayerEventListener implements PlayerEventListener
 	@EventHandler
 	@Override
 	public void onCraftPrepare(final PrepareItemCraftEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			preventCrafting(event);
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_CRAFT_PREPARE, System.nanoTime() - startTime, event.getView().getPlayer());
+		}
+	}
+
+
+	private void preventCrafting(final PrepareItemCraftEvent event)
 	{
 		// if allow-in-recipes is true in configuration, do nothing and return
 		if (ctx.plugin().getConfig().getBoolean("allow-in-recipes"))
@@ -113,13 +231,31 @@ public final class BukkitPlayerEventListener implements PlayerEventListener
 		}
 
 		// if crafting inventory contains LodeStar item, set result item to null
-		for (ItemStack itemStack : event.getInventory())
+		if (containsItem(event.getInventory(), ctx.messageBuilder().items()::isItem))
 		{
-			if (ctx.messageBuilder().items().isItem(itemStack))
+			event.getInventory().setResult(null);
+		}
+	}
+
+
+	/**
+	 * Test if any of the given items is matched by the item test. Items without item meta are rejected before the
+	 * item test is applied, because testing for item meta does not copy the meta, and the search ends at the first match.
+	 *
+	 * @param items the items to test, which may contain null entries for empty slots
+	 * @param isItem the item test, which reads the item meta
+	 * @return true if any item is matched by the item test, false if not
+	 */
+	static boolean containsItem(final Iterable<ItemStack> items, final Predicate<ItemStack> isItem)
+	{
+		for (ItemStack itemStack : items)
+		{
+			if (itemStack != null && itemStack.hasItemMeta() && isItem.test(itemStack))
 			{
-				event.getInventory().setResult(null);
+				return true;
 			}
 		}
+		return false;
 	}
 
 
@@ -131,6 +267,20 @@ public final class BukkitPlayerEventListener implements PlayerEventListener
 	@EventHandler(ignoreCancelled = true)
 	@Override
 	public void onEntityDamage(final EntityDamageEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			cancelTeleportOnDamage(event);
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_DAMAGE, System.nanoTime() - startTime, event.getEntity());
+		}
+	}
+
+
+	private void cancelTeleportOnDamage(final EntityDamageEvent event)
 	{
 		// if cancel-on-damage configuration is true, check if damaged entity is player
 		if (ctx.plugin().getConfig().getBoolean("cancel-on-damage"))
@@ -140,7 +290,7 @@ public final class BukkitPlayerEventListener implements PlayerEventListener
 			// if damaged entity is player, and player has pending teleport, cancel teleport and send player message
 			if (entity instanceof Player player && teleportHandler.isWarmingUp(player))
 			{
-				teleportHandler.cancelTeleport(player);
+				teleportHandler.cancelTeleport(player, Counter.TELEPORT_CANCELLED_DAMAGE);
 				ctx.messageBuilder().compose(player, MessageId.EVENT_TELEPORT_CANCELLED_DAMAGE).send();
 				ctx.messageBuilder().sounds().play(player, SoundId.TELEPORT_CANCELLED);
 			}
@@ -156,6 +306,20 @@ public final class BukkitPlayerEventListener implements PlayerEventListener
 	@EventHandler
 	@Override
 	public void onPlayerMovement(final PlayerMoveEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			cancelTeleportOnMovement(event);
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_MOVE, System.nanoTime() - startTime, event.getPlayer());
+		}
+	}
+
+
+	private void cancelTeleportOnMovement(final PlayerMoveEvent event)
 	{
 		// if cancel-on-movement configuration is false, do nothing and return
 		if (!ctx.plugin().getConfig().getBoolean("cancel-on-movement"))
@@ -168,7 +332,7 @@ public final class BukkitPlayerEventListener implements PlayerEventListener
 		// if player is pending teleport and has moved, cancel teleport and send player message
 		if (teleportHandler.isWarmingUp(player) && playerHasMoved(event))
 		{
-			teleportHandler.cancelTeleport(player);
+			teleportHandler.cancelTeleport(player, Counter.TELEPORT_CANCELLED_MOVEMENT);
 			ctx.messageBuilder().compose(player, MessageId.EVENT_TELEPORT_CANCELLED_MOVEMENT).send();
 			ctx.messageBuilder().sounds().play(player, SoundId.TELEPORT_CANCELLED);
 		}
@@ -17,6 +17,9 @@
 
 package com.winterhavenmc.lodestar.adapters.listeners.bukkit;
 
+import com.winterhavenmc.lodestar.metrics.Counter;
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
 import com.winterhavenmc.lodestar.ports.listeners.PlayerInteractEventListener;
 import com.winterhavenmc.lodestar.ports.teleporter.TeleportHandler;
 import com.winterhavenmc.lodestar.util.MessageId;
@@ -27,6 +30,7 @@ import com.winterhavenmc.library.messagebuilder.MessageBuilder;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.TileState;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.block.data.Openable;
 import org.bukkit.block.data.type.Switch;
 import org.bukkit.entity.Player;
@@ -34,8 +38,12 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Set;
 
 
@@ -44,6 +52,7 @@ public class BukkitPlayerInteractEventListener implements PlayerInteractEventLis
 	private final Plugin plugin;
 	private final MessageBuilder messageBuilder;
 	private final TeleportHandler teleportHandler;
+	private final OperationMetrics metrics;
 
 	// set to hold craft table materials
 	private final Set<Material> craftTables = Set.of(
@@ -54,12 +63,23 @@ public class BukkitPlayerInteractEventListener implements PlayerInteractEventLis
 			Material.LOOM,
 			Material.STONECUTTER);
 
+	// set of block materials that may be interacted with while holding a LodeStar item
+	private final Set<Material> interactableBlocks;
 
-	public BukkitPlayerInteractEventListener(final Plugin plugin, final MessageBuilder messageBuilder, final TeleportHandler teleportHandler)
+	// map of block material to whether its block state is a tile state, filled as blocks are clicked
+	private final Map<Material, Boolean> tileStateBlocks = new EnumMap<>(Material.class);
+
+
+	public BukkitPlayerInteractEventListener(final Plugin plugin,
+	                                         final MessageBuilder messageBuilder,
+	                                         final TeleportHandler teleportHandler,
+	                                         final OperationMetrics metrics)
 	{
 		this.plugin = plugin;
 		this.messageBuilder = messageBuilder;
 		this.teleportHandler = teleportHandler;
+		this.metrics = metrics;
+		this.interactableBlocks = interactableBlocks(craftTables);
 
 		// register events in this class
 		plugin.getServer().getPluginManager().registerEvents(this, plugin);
@@ -77,13 +97,32 @@ public class BukkitPlayerInteractEventListener implements PlayerInteractEventLis
 	@Override
 	public void onPlayerInteract(final PlayerInteractEvent event)
 	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			handleInteract(event);
+		}
+		finally
+		{
+			metrics.record(Operation.EVENT_INTERACT, System.nanoTime() - startTime, event.getPlayer());
+		}
+	}
+
+
+	private void handleInteract(final PlayerInteractEvent event)
+	{
+		// if item is not a LodeStar, only check for cancel-on-interaction and return
+		if (!isLodeStar(event.getItem()))
+		{
+			cancelTeleportOnInteraction(event);
+			return;
+		}
+
 		// get event player
 		final Player player = event.getPlayer();
 
 		// perform check for cancel-on-interaction
-		if (cancelTeleportOnInteraction(event)
-				|| !messageBuilder.items().isItem(event.getItem())
-				|| allowedClickType(event))
+		if (cancelTeleportOnInteraction(event) || allowedClickType(event))
 		{
 			return;
 		}
@@ -139,11 +178,11 @@ public class BukkitPlayerInteractEventListener implements PlayerInteractEventLis
 		final Action action = event.getAction();
 		final EquipmentSlot hand = event.getHand();
 
-		// if cancel-on-interaction is configured true, and player is in warmup hashmap,
-		// and player is interacting with a block (not air) then cancel teleport, output message and return
-		if (plugin.getConfig().getBoolean("cancel-on-interaction")
+		// if player is interacting with a block (not air), and player is in warmup hashmap,
+		// and cancel-on-interaction is configured true, then cancel teleport, output message and return
+		if ((Action.LEFT_CLICK_BLOCK.equals(action) || Action.RIGHT_CLICK_BLOCK.equals(action))
 				&& teleportHandler.isWarmingUp(player)
-				&& (Action.LEFT_CLICK_BLOCK.equals(action) || Action.RIGHT_CLICK_BLOCK.equals(action)))
+				&& plugin.getConfig().getBoolean("cancel-on-interaction"))
 		{
 			// if item used is in off_hand, do nothing and return
 			if (EquipmentSlot.OFF_HAND.equals(hand))
@@ -152,7 +191,7 @@ public class BukkitPlayerInteractEventListener implements PlayerInteractEventLis
 			}
 
 			// cancel teleport and send message, play sound
-			teleportHandler.cancelTeleport(player);
+			teleportHandler.cancelTeleport(player, Counter.TELEPORT_CANCELLED_INTERACTION);
 			messageBuilder.compose(player, MessageId.EVENT_TELEPORT_CANCELLED_INTERACTION).send();
 			messageBuilder.sounds().play(player, SoundId.TELEPORT_CANCELLED);
 			return true;
@@ -161,6 +200,18 @@ public class BukkitPlayerInteractEventListener implements PlayerInteractEventLis
 	}
 
 
+	/**
+	 * Check if an item is a LodeStar item. Items without item meta are rejected without copying the meta.
+	 *
+	 * @param itemStack the item to check
+	 * @return true if the item is a LodeStar item, false if not
+	 */
+	boolean isLodeStar(final ItemStack itemStack)
+	{
+		return itemStack != null && itemStack.hasItemMeta() && messageBuilder.items().isItem(itemStack);
+	}
+
+
 	/**
 	 * Check if block is of type that interaction is allowed while holding a lode star item in hand
 	 *
@@ -169,26 +220,50 @@ public class BukkitPlayerInteractEventListener implements PlayerInteractEventLis
 	 */
 	boolean allowedInteraction(final Block block)
 	{
-		// allow use of doors, gates and trap doors with item in hand
-		if (block.getBlockData() instanceof Openable)
-		{
-			return true;
-		}
+		final Material type = block.getType();
+		return interactableBlocks.contains(type)
+				|| tileStateBlocks.computeIfAbsent(type, ignored -> block.getState() instanceof TileState);
+	}
 
-		// allow use of switches with item in hand
-		if (block.getBlockData() instanceof Switch)
-		{
-			return true;
-		}
 
-		// allow use of containers and other tile entity blocks with item in hand
-		if (block.getState() instanceof TileState)
+	/**
+	 * Build the set of block materials that may be interacted with while holding a LodeStar item: doors, gates
+	 * and trap doors, switches, and crafting tables. Block data type depends only on the material, so the set is
+	 * built once instead of inspecting each clicked block. Containers and other tile entity blocks are found from
+	 * the block state of the first clicked block of each material, since the block state of a material cannot be
+	 * created without a block on the oldest supported server versions.
+	 *
+	 * @param craftTables the set of crafting table materials
+	 * @return the set of allowed block materials
+	 */
+	@SuppressWarnings("deprecation")
+	private static Set<Material> interactableBlocks(final Set<Material> craftTables)
+	{
+		final Set<Material> result = EnumSet.noneOf(Material.class);
+		result.addAll(craftTables);
+
+		for (Material material : Material.values())
 		{
-			return true;
+			if (material.isLegacy() || !material.isBlock())
+			{
+				continue;
+			}
+
+			try
+			{
+				BlockData blockData = material.createBlockData();
+				if (blockData instanceof Openable || blockData instanceof Switch)
+				{
+					result.add(material);
+				}
+			}
+			catch (RuntimeException exception)
+			{
+				// material does not have block data, and is not interactable
+			}
 		}
 
-		// allow use of crafting tables with item in hand
-		return craftTables.contains(block.getType());
+		return result;
 	}
 
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.listeners.bukkit;
+
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+import com.winterhavenmc.lodestar.models.location.WorldRegistry;
+import com.winterhavenmc.lodestar.ports.listeners.WorldEventListener;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+
+
+/**
+ * Implements world event listener that keeps the {@link WorldRegistry} current
+ */
+public final class BukkitWorldEventListener implements WorldEventListener
+{
+	private final OperationMetrics metrics;
+
+
+	/**
+	 * class constructor
+	 */
+	public BukkitWorldEventListener(final Plugin plugin, final OperationMetrics metrics)
+	{
+		this.metrics = metrics;
+
+		// populate world registry with worlds already loaded
+		WorldRegistry.refresh(plugin.getServer().getWorlds());
+
+		// register events in this class
+		plugin.getServer().getPluginManager().registerEvents(this, plugin);
+	}
+
+
+	/**
+	 * register newly loaded world in world registry
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	@Override
+	public void onWorldLoad(final WorldLoadEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			WorldRegistry.register(event.getWorld());
+		}
+		finally
+		{
+			metrics.record(Operation.EVENT_WORLD, System.nanoTime() - startTime, event.getWorld());
+		}
+	}
+
+
+	/**
+	 * remove unloaded world from world registry
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	@Override
+	public void onWorldUnload(final WorldUnloadEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			WorldRegistry.unregister(event.getWorld());
+		}
+		finally
+		{
+			metrics.record(Operation.EVENT_WORLD, System.nanoTime() - startTime, event.getWorld());
+		}
+	}
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.metrics.prometheus;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.winterhavenmc.lodestar.metrics.Counter;
+import com.winterhavenmc.lodestar.metrics.Gauge;
+import com.winterhavenmc.lodestar.metrics.LatencySnapshot;
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+import com.winterhavenmc.lodestar.metrics.TickBudgetTracker;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * Embedded HTTP endpoint serving LodeStar metrics in the Prometheus text exposition format, bound to the loopback
+ * address only. Requests are handled on a single daemon thread, and render counters and histograms from their
+ * lock-free snapshots. Gauges of main thread state are sampled by a task on the main thread once per second,
+ * and served from the last sample.
+ */
+public final class PrometheusExporter
+{
+	private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+	private static final long GAUGE_SAMPLE_TICKS = 20L;
+
+	private final Plugin plugin;
+	private final OperationMetrics metrics;
+	private HttpServer server;
+	private ExecutorService executor;
+	private BukkitTask gaugeTask;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param plugin the plugin instance
+	 * @param metrics the operation metrics registry
+	 */
+	public PrometheusExporter(final Plugin plugin, final OperationMetrics metrics)
+	{
+		this.plugin = plugin;
+		this.metrics = metrics;
+	}
+
+
+	/**
+	 * Start serving metrics at {@code http://127.0.0.1:<port>/metrics}
+	 *
+	 * @param port the loopback port to bind
+	 * @throws IOException if the port could not be bound
+	 */
+	public void start(final int port) throws IOException
+	{
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.createContext("/metrics", this::handle);
+
+		executor = Executors.newSingleThreadExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "LodeStar-PrometheusExporter");
+			thread.setDaemon(true);
+			return thread;
+		});
+		server.setExecutor(executor);
+		server.start();
+
+		gaugeTask = plugin.getServer().getScheduler().runTaskTimer(plugin, metrics::sampleGauges, 0L, GAUGE_SAMPLE_TICKS);
+	}
+
+
+	/**
+	 * Stop serving metrics
+	 */
+	public void stop()
+	{
+		if (gaugeTask != null)
+		{
+			gaugeTask.cancel();
+		}
+
+		if (server != null)
+		{
+			server.stop(0);
+			executor.shutdownNow();
+		}
+	}
+
+
+	private void handle(final HttpExchange exchange) throws IOException
+	{
+		try (exchange)
+		{
+			if (!"GET".equals(exchange.getRequestMethod()))
+			{
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+
+			final byte[] body = render().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream outputStream = exchange.getResponseBody())
+			{
+				outputStream.write(body);
+			}
+		}
+	}
+
+
+	/**
+	 * Render all metrics in the Prometheus text exposition format
+	 *
+	 * @return the rendered metrics
+	 */
+	String render()
+	{
+		final StringBuilder builder = new StringBuilder(4096);
+
+		header(builder, "lodestar_events_total", "counter", "LodeStar events counted since the plugin was enabled.");
+		for (Counter counter : Counter.values())
+		{
+			sample(builder, "lodestar_events_total", "event", counter.name().toLowerCase(Locale.ROOT), metrics.count(counter));
+		}
+
+		header(builder, "lodestar_operations_total", "counter", "Timed operations since the metrics were last reset.");
+		for (Operation operation : Operation.values())
+		{
+			sample(builder, "lodestar_operations_total", "operation", operation.displayName(), metrics.totalSnapshot(operation).count());
+		}
+
+		header(builder, "lodestar_operation_latency_seconds", "gauge", "Operation latency quantiles over the last minute.");
+		for (Operation operation : Operation.values())
+		{
+			quantiles(builder, "lodestar_operation_latency_seconds", "operation=\"" + operation.displayName() + "\",",
+					metrics.windowSnapshot(operation));
+		}
+
+		metrics.tickBudgetTracker().ifPresent(tracker -> tickCost(builder, tracker));
+
+		for (Gauge gauge : Gauge.values())
+		{
+			String name = "lodestar_" + gauge.metricName();
+			header(builder, name, "gauge", gauge.help());
+			builder.append(name).append(' ').append(metrics.gauge(gauge)).append('\n');
+		}
+
+		return builder.toString();
+	}
+
+
+	private static void tickCost(final StringBuilder builder, final TickBudgetTracker tracker)
+	{
+		header(builder, "lodestar_tick_cost_seconds", "gauge", "LodeStar main thread time per tick, quantiles over the last minute.");
+		quantiles(builder, "lodestar_tick_cost_seconds", "", tracker.windowSnapshot());
+
+		header(builder, "lodestar_ticks_over_budget_total", "counter", "Ticks in which LodeStar exceeded its main thread budget.");
+		builder.append("lodestar_ticks_over_budget_total ").append(tracker.ticksOverBudget()).append('\n');
+	}
+
+
+	private static void header(final StringBuilder builder, final String name, final String type, final String help)
+	{
+		builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+	}
+
+
+	private static void sample(final StringBuilder builder, final String name,
+	                           final String label, final String labelValue, final long value)
+	{
+		builder.append(name).append('{').append(label).append("=\"").append(labelValue).append("\"} ")
+				.append(value).append('\n');
+	}
+
+
+	private static void quantiles(final StringBuilder builder, final String name,
+	                              final String labels, final LatencySnapshot snapshot)
+	{
+		quantile(builder, name, labels, "0.5", snapshot.p50());
+		quantile(builder, name, labels, "0.99", snapshot.p99());
+		quantile(builder, name, labels, "1", snapshot.max());
+	}
+
+
+	private static void quantile(final StringBuilder builder, final String name,
+	                             final String labels, final String quantile, final long nanos)
+	{
+		builder.append(name).append('{').append(labels).append("quantile=\"").append(quantile).append("\"} ")
+				.append(nanos / 1_000_000_000.0).append('\n');
+	}
+
+}
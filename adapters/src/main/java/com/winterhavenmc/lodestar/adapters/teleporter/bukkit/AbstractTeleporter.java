@@ -29,8 +29,6 @@ import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 
@@ -45,12 +43,14 @@ abstract non-sealed class AbstractTeleporter implements Teleporter
 {
 	protected final TeleportCtx ctx;
 	protected final TeleportExecutor teleportExecutor;
+	protected final SpawnLocationCache spawnLocationCache;
 
 
-	AbstractTeleporter(final TeleportCtx ctx, final TeleportExecutor teleportExecutor)
+	AbstractTeleporter(final TeleportCtx ctx, final TeleportExecutor teleportExecutor, final SpawnLocationCache spawnLocationCache)
 	{
 		this.ctx = ctx;
 		this.teleportExecutor = teleportExecutor;
+		this.spawnLocationCache = spawnLocationCache;
 	}
 
 
@@ -98,13 +98,13 @@ abstract non-sealed class AbstractTeleporter implements Teleporter
 		}
 
 		// get spawn location for player
-		Location location = ctx.messageBuilder().worlds().spawnLocation(player.getWorld().getUID()).orElse(player.getRespawnLocation());
+		Location location = spawnLocationCache.spawnLocation(player.getWorld().getUID()).orElseGet(player::getRespawnLocation);
 
 		// if from-nether or from-end is enabled in config and player is in nether or end, try to get overworld spawn location
 		if (isInNetherWorld(player) && ctx.plugin().getConfig().getBoolean("from-nether")
 				|| isInEndWorld(player) && ctx.plugin().getConfig().getBoolean("from-end"))
 		{
-			location = getOverworldSpawnLocation(player).orElse(location);
+			location = spawnLocationCache.overworldSpawnLocation(player.getWorld()).orElse(location);
 		}
 
 		// get checked location
@@ -123,54 +123,6 @@ abstract non-sealed class AbstractTeleporter implements Teleporter
 	}
 
 
-	/**
-	 * Get overworld spawn location corresponding to a player nether or end world.
-	 *
-	 * @param player the passed player whose current world will be used to find a matching over world spawn location
-	 * @return {@link Optional} wrapped spawn location of the normal world associated with the passed player
-	 * nether or end world, or the current player world spawn location if no matching normal world found
-	 */
-	private Optional<Location> getOverworldSpawnLocation(final Player player)
-	{
-		// check for null parameter
-		if (player == null)
-		{
-			return Optional.empty();
-		}
-
-		// create list to store normal environment worlds
-		List<World> normalWorlds = new ArrayList<>();
-
-		// iterate through all server worlds
-		for (World checkWorld : ctx.plugin().getServer().getWorlds())
-		{
-
-			// if world is normal environment, try to match name to passed world
-			if (checkWorld.getEnvironment().equals(World.Environment.NORMAL))
-			{
-
-				// check if normal world matches passed world minus nether/end suffix
-				if (checkWorld.getName().equals(player.getWorld().getName().replaceFirst("(_nether$|_the_end$)", "")))
-				{
-					return ctx.messageBuilder().worlds().spawnLocation(checkWorld.getUID());
-				}
-
-				// if no match, add to list of normal worlds
-				normalWorlds.add(checkWorld);
-			}
-		}
-
-		// if only one normal world exists, return that world
-		if (normalWorlds.size() == 1)
-		{
-			return ctx.messageBuilder().worlds().spawnLocation(normalWorlds.getFirst().getUID());
-		}
-
-		// if no matching normal world found and more than one normal world exists, return passed world spawn location
-		return ctx.messageBuilder().worlds().spawnLocation(player.getWorld().getUID());
-	}
-
-
 	/**
 	 * Check if a player is in a nether world
 	 *
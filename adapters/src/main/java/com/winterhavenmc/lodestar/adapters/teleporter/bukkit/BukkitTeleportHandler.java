@@ -18,6 +18,10 @@
 package com.winterhavenmc.lodestar.adapters.teleporter.bukkit;
 
 import com.winterhavenmc.library.messagebuilder.MessageBuilder;
+import com.winterhavenmc.lodestar.metrics.Counter;
+import com.winterhavenmc.lodestar.metrics.Gauge;
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
 import com.winterhavenmc.lodestar.models.destination.*;
 import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
 import com.winterhavenmc.lodestar.util.TeleportCtx;
@@ -25,19 +29,27 @@ import com.winterhavenmc.lodestar.ports.teleporter.TeleportHandler;
 import com.winterhavenmc.lodestar.util.LodeStarUtility;
 import com.winterhavenmc.lodestar.util.Macro;
 import com.winterhavenmc.lodestar.util.MessageId;
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
 
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.time.Duration;
+import java.util.Collection;
+
 
 /**
  * Class that manages player teleportation, including warmup and cooldown.
  */
 public final class BukkitTeleportHandler implements TeleportHandler
 {
-	private final WarmupMap warmupMap;
-	private final CooldownMap cooldownMap;
+	private final PlayerSessionTable sessions;
 	private final TeleportExecutor teleportExecutor;
+	private final SpawnLocationCache spawnLocationCache;
+	private final HomeLocationCache homeLocationCache;
+	private final DestinationPrefetcher destinationPrefetcher;
 	private final MessageBuilder messageBuilder;
 	private final LodeStarUtility lodeStarUtility;
 	private final TeleportCtx ctx;
@@ -49,14 +61,26 @@ public final class BukkitTeleportHandler implements TeleportHandler
 	public BukkitTeleportHandler(final JavaPlugin plugin,
 	                             final MessageBuilder messageBuilder,
 	                             final ConnectionProvider connectionProvider,
-	                             final LodeStarUtility lodeStarUtility)
+	                             final LodeStarUtility lodeStarUtility,
+	                             final OperationMetrics metrics)
 	{
-		this.ctx = new TeleportCtx(plugin, messageBuilder, connectionProvider, lodeStarUtility);
-		this.warmupMap = new WarmupMap();
-		this.cooldownMap = new CooldownMap(this, ctx);
-		this.teleportExecutor = new TeleportExecutor(this, ctx, warmupMap);
+		this.ctx = new TeleportCtx(plugin, messageBuilder, connectionProvider, lodeStarUtility, metrics);
+		this.sessions = new PlayerSessionTable();
+		this.homeLocationCache = new HomeLocationCache(ctx);
+		this.teleportExecutor = new TeleportExecutor(this, ctx, sessions, homeLocationCache);
+		this.spawnLocationCache = new SpawnLocationCache(ctx);
+		this.destinationPrefetcher = new DestinationPrefetcher(ctx);
 		this.messageBuilder = messageBuilder;
 		this.lodeStarUtility = lodeStarUtility;
+
+		// register sizes of teleport state for sampling
+		metrics.registerGauge(Gauge.WARMUP_PLAYERS, sessions::warmupCount);
+		metrics.registerGauge(Gauge.COOLDOWN_PLAYERS, () -> sessions.cooldownCount(System.currentTimeMillis()));
+		metrics.registerGauge(Gauge.PREFETCH_ACTIVE, destinationPrefetcher::size);
+		metrics.registerGauge(Gauge.HOME_CACHE_SIZE, homeLocationCache::size);
+
+		// open sessions of players already online, if plugin was enabled after they joined
+		plugin.getServer().getOnlinePlayers().forEach(this::openSession);
 	}
 
 
@@ -66,6 +90,20 @@ public final class BukkitTeleportHandler implements TeleportHandler
 	 * @param player the player being teleported
 	 */
 	@Override public void initiateTeleport(final Player player)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			startTeleport(player);
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.TELEPORT_INITIATE, System.nanoTime() - startTime, player);
+		}
+	}
+
+
+	private void startTeleport(final Player player)
 	{
 		// if player is warming up, do nothing and return
 		if (isWarmingUp(player))
@@ -76,8 +114,9 @@ public final class BukkitTeleportHandler implements TeleportHandler
 		// if player cooldown has not expired, send player cooldown message and return
 		if (isCoolingDown(player))
 		{
+			ctx.metrics().increment(Counter.COOLDOWN_REJECTED);
 			messageBuilder.compose(player, MessageId.EVENT_TELEPORT_COOLDOWN)
-					.setMacro(Macro.DURATION, cooldownMap.getCooldownTimeRemaining(player))
+					.setMacro(Macro.DURATION, Duration.ofMillis(sessions.cooldownRemaining(player.getUniqueId(), System.currentTimeMillis())))
 					.send();
 			return;
 		}
@@ -87,9 +126,9 @@ public final class BukkitTeleportHandler implements TeleportHandler
 		{
 			Teleporter teleporter = switch (validDestination)
 			{
-				case HomeDestination ignored -> new HomeTeleporter(ctx, teleportExecutor);
-				case SpawnDestination ignored -> new SpawnTeleporter(ctx, teleportExecutor);
-				default -> new DestinationTeleporter(ctx, teleportExecutor);
+				case HomeDestination ignored -> new HomeTeleporter(ctx, teleportExecutor, spawnLocationCache, homeLocationCache);
+				case SpawnDestination ignored -> new SpawnTeleporter(ctx, teleportExecutor, spawnLocationCache);
+				default -> new DestinationTeleporter(ctx, teleportExecutor, spawnLocationCache);
 			};
 
 			// initiate teleport
@@ -106,75 +145,198 @@ public final class BukkitTeleportHandler implements TeleportHandler
 	 */
 	@Override public void cancelTeleport(final Player player)
 	{
-		// if player is in warmup hashmap, cancel delayed teleport task and remove player from warmup hashmap
-		if (warmupMap.containsPlayer(player))
+		cancelWarmup(player);
+	}
+
+
+	/**
+	 * Cancel pending teleport for player, counting the cancellation if a teleport was pending
+	 *
+	 * @param player the player to cancel teleport
+	 * @param reason the counter for the cause of the cancellation
+	 */
+	@Override public void cancelTeleport(final Player player, final Counter reason)
+	{
+		if (cancelWarmup(player))
 		{
-			// get delayed teleport task id
-			int taskId = warmupMap.getTaskId(player);
+			ctx.metrics().increment(reason);
+		}
+	}
 
-			// cancel delayed teleport task
-			ctx.plugin().getServer().getScheduler().cancelTask(taskId);
 
-			// remove player from warmup hashmap
-			warmupMap.removePlayer(player);
+	/**
+	 * Remove player warmup from session table and cancel their delayed teleport task. The task id is removed from
+	 * the table before it is cancelled, so concurrent cancellations cancel and count the task only once.
+	 *
+	 * @param player the player to cancel teleport
+	 * @return {@code true} if a pending teleport was cancelled, {@code false} if the player was not warming up
+	 */
+	private boolean cancelWarmup(final Player player)
+	{
+		int taskId = sessions.cancelWarmup(player.getUniqueId());
+		if (taskId == PlayerSessionTable.NO_TASK)
+		{
+			return false;
 		}
+
+		ctx.plugin().getServer().getScheduler().cancelTask(taskId);
+		return true;
 	}
 
 
 	/**
-	 * Test if player uuid is in warmup map
+	 * Test if player has a pending teleport warmup
 	 *
-	 * @param player the player to test if in warmup map
-	 * @return {@code true} if player is in warmup map, {@code false} if not
+	 * @param player the player to test
+	 * @return {@code true} if player is warming up, {@code false} if not
 	 */
 	@Override public boolean isWarmingUp(final Player player)
 	{
-		return warmupMap.isWarmingUp(player);
+		return sessions.isWarmingUp(player.getUniqueId());
 	}
 
 
 	/**
-	 * Remove player uuid from warmup map
+	 * End player warmup without cancelling the delayed teleport task, which will then not teleport the player
 	 *
-	 * @param player the player to remove from the warmup map
+	 * @param player the player whose warmup is ended
 	 */
 	@Override public void removeWarmingUpPlayer(final Player player)
 	{
-		warmupMap.removePlayer(player);
+		sessions.cancelWarmup(player.getUniqueId());
 	}
 
 
 	/**
-	 * Insert player into cooldown map
+	 * Start player cooldown, for the configured cooldown time
 	 *
-	 * @param player the player being inserted into the cooldown map
+	 * @param player the player starting a cooldown
 	 */
 	@Override public void startPlayerCooldown(final Player player)
 	{
-		cooldownMap.startPlayerCooldown(player);
+		long cooldownSeconds = ctx.plugin().getConfig().getLong("teleport-cooldown");
+		sessions.startCooldown(player.getUniqueId(), System.currentTimeMillis() + cooldownSeconds * 1000L);
 	}
 
 
 	/**
-	 * Remove player from cooldown map
+	 * End player cooldown
 	 *
-	 * @param player the player to be removed from the cooldown map
+	 * @param player the player whose cooldown is ended
 	 */
 	@Override public void cancelPlayerCooldown(final Player player)
 	{
-		cooldownMap.removePlayer(player);
+		sessions.cancelCooldown(player.getUniqueId());
 	}
 
 
 	/**
-	 * Test if a player is currently in the cooldown map
+	 * Test if a player cooldown has not yet expired
 	 *
 	 * @param player the player to check
-	 * @return true if player is currently in the cooldown map, false if not
+	 * @return true if player is cooling down, false if not
 	 */
 	@Override public boolean isCoolingDown(final Player player)
 	{
-		return cooldownMap.isCoolingDown(player);
+		return sessions.cooldownRemaining(player.getUniqueId(), System.currentTimeMillis()) > 0;
+	}
+
+
+	/**
+	 * Open the teleport session of a player who has joined the server
+	 *
+	 * @param player the player
+	 */
+	@Override public void openSession(final Player player)
+	{
+		sessions.open(player.getUniqueId());
+	}
+
+
+	/**
+	 * Close the teleport session of a player who has left the server, cancelling any pending teleport.
+	 * An unexpired cooldown is retained until it expires.
+	 *
+	 * @param player the player
+	 */
+	@Override public void closeSession(final Player player)
+	{
+		cancelWarmup(player);
+		sessions.close(player.getUniqueId(), System.currentTimeMillis());
+	}
+
+
+	/**
+	 * Begin resolving the destination of an item brought into a player's main hand, and loading its chunk
+	 * in the background where the server supports it.
+	 * Any prefetch already in progress for the player is cancelled, whether or not the new item is a LodeStar.
+	 *
+	 * @param player the player
+	 * @param itemStack the item now in the player's main hand
+	 */
+	@Override public void prefetchDestination(final Player player, final ItemStack itemStack)
+	{
+		// cancel prefetch for previously held item
+		destinationPrefetcher.cancel(player);
+
+		// if prefetch is disabled, or player is already warming up, do nothing and return
+		if (!ctx.plugin().getConfig().getBoolean("prefetch-destination") || isWarmingUp(player))
+		{
+			return;
+		}
+
+		// if item has a destination key, start prefetch
+		String destinationKey = lodeStarUtility.getDestinationKey(itemStack);
+		if (destinationKey != null)
+		{
+			destinationPrefetcher.start(player, destinationKey);
+		}
+	}
+
+
+	/**
+	 * Cancel any destination prefetch for a player
+	 *
+	 * @param player the player whose prefetch is to be cancelled
+	 */
+	@Override public void cancelPrefetch(final Player player)
+	{
+		destinationPrefetcher.cancel(player);
+	}
+
+
+	/**
+	 * Teleport a group of players to a destination, spread across ticks in batches. A spawn destination
+	 * resolves to the spawn of the sender's world, or of the default world if the sender is not a player.
+	 *
+	 * @param sender the command sender to receive progress messages
+	 * @param validDestination the destination
+	 * @param players the players to teleport
+	 * @return {@code true} if the group teleport was started, {@code false} if the destination has no location
+	 */
+	@Override public boolean teleportGroup(final CommandSender sender,
+	                                       final ValidDestination validDestination,
+	                                       final Collection<? extends Player> players)
+	{
+		Location location = switch (validDestination)
+		{
+			case StoredDestination storedDestination -> storedDestination.getLocation();
+			case TeleportDestination teleportDestination -> teleportDestination.getLocation();
+			case SpawnDestination ignored -> spawnLocationCache.spawnLocation((sender instanceof Player player)
+					? player.getWorld().getUID()
+					: ctx.plugin().getServer().getWorlds().getFirst().getUID()).orElse(null);
+			case HomeDestination ignored -> null;
+		};
+
+		if (location == null || location.getWorld() == null)
+		{
+			return false;
+		}
+
+		new GroupTeleportTask(ctx, this, destinationPrefetcher, sender, validDestination, location, players)
+				.runTaskTimer(ctx.plugin(), 1L, 1L);
+
+		return true;
 	}
 
 }
@@ -17,6 +17,9 @@
 
 package com.winterhavenmc.lodestar.adapters.teleporter.bukkit;
 
+import com.winterhavenmc.lodestar.metrics.Counter;
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.metrics.jfr.TeleportStageEvent;
 import com.winterhavenmc.lodestar.models.destination.SpawnDestination;
 import com.winterhavenmc.lodestar.util.TeleportCtx;
 import com.winterhavenmc.lodestar.ports.teleporter.TeleportHandler;
@@ -28,6 +31,7 @@ import com.winterhavenmc.lodestar.models.destination.ValidDestination;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
@@ -38,12 +42,16 @@ import org.bukkit.scheduler.BukkitTask;
  */
 final class DelayedTeleportTask extends BukkitRunnable
 {
+	// number of main inventory slots, hotbar slots first
+	private static final int STORAGE_SLOT_COUNT = 36;
+	private static final int OFF_HAND_SLOT = 40;
 
 	private final TeleportCtx ctx;
 	private final Player player;
 	private final ValidDestination validDestination;
 	private final ItemStack playerItem;
 	private final TeleportHandler teleportHandler;
+	private final PlayerSessionTable sessions;
 	private Location location;
 	private BukkitTask particleTask;
 
@@ -57,6 +65,7 @@ final class DelayedTeleportTask extends BukkitRunnable
 	 */
 	DelayedTeleportTask(final TeleportHandler teleportHandler,
 	                    final TeleportCtx ctx,
+	                    final PlayerSessionTable sessions,
 	                    final Player player,
 	                    final ValidDestination validDestination,
 						final Location location,
@@ -64,6 +73,7 @@ final class DelayedTeleportTask extends BukkitRunnable
 	{
 		this.teleportHandler = teleportHandler;
 		this.ctx = ctx;
+		this.sessions = sessions;
 		this.player = player;
 		this.validDestination = validDestination;
 		this.playerItem = playerItem;
@@ -82,38 +92,50 @@ final class DelayedTeleportTask extends BukkitRunnable
 
 	@Override
 	public void run()
+	{
+		final TeleportStageEvent event = new TeleportStageEvent();
+		event.begin();
+		final long startTime = System.nanoTime();
+
+		teleportPlayer();
+
+		ctx.metrics().record(Operation.TASK_TELEPORT, System.nanoTime() - startTime, player);
+		event.end();
+		if (event.shouldCommit())
+		{
+			event.stage = "teleport";
+			event.player = player.getName();
+			event.destination = validDestination.displayName();
+			event.commit();
+		}
+	}
+
+
+	/**
+	 * Teleport the player if still warming up, and send teleport success messages
+	 */
+	private void teleportPlayer()
 	{
 		// cancel particles task
 		particleTask.cancel();
 
-		// if player is in warmup map
-		if (teleportHandler.isWarmingUp(player))
-		{
-			// remove player from warmup map
-			teleportHandler.removeWarmingUpPlayer(player);
+		// end player warmup, and get the inventory slot the item was used from
+		final int sourceSlot = sessions.completeWarmup(player.getUniqueId(), getTaskId());
 
+		// if warmup still belongs to this task
+		if (sourceSlot != PlayerSessionTable.WARMUP_ENDED)
+		{
 			// if validDestination is spawn, get spawn location from world manager
 			if (validDestination instanceof SpawnDestination)
 			{
-				location = ctx.messageBuilder().worlds().spawnLocation(player.getWorld().getUID()).orElse(player.getRespawnLocation());
+				location = ctx.messageBuilder().worlds().spawnLocation(player.getWorld().getUID()).orElseGet(player::getRespawnLocation);
 			}
 
 			// if remove-from-inventory is configured on-success, take one LodeStar item from inventory now
 			if ("on-success".equalsIgnoreCase(ctx.plugin().getConfig().getString("remove-from-inventory")))
 			{
 				// try to remove one LodeStar item from player inventory
-				boolean wasRemoved = false;
-				for (ItemStack itemStack : player.getInventory())
-				{
-					if (playerItem.isSimilar(itemStack))
-					{
-						ItemStack itemToRemove = itemStack.clone();
-						itemToRemove.setAmount(1);
-						player.getInventory().removeItem(itemToRemove);
-						wasRemoved = true;
-						break;
-					}
-				}
+				boolean wasRemoved = removeOneItem(sourceSlot);
 
 				// if one LodeStar item could not be removed from inventory, send message, set cooldown and return
 				if (!wasRemoved)
@@ -129,6 +151,7 @@ final class DelayedTeleportTask extends BukkitRunnable
 
 			// teleport player to location
 			player.teleport(location);
+			ctx.metrics().increment(Counter.TELEPORT_COMPLETED);
 
 			// if validDestination is spawn, send spawn specific success message
 			if (validDestination instanceof SpawnDestination)
@@ -158,4 +181,71 @@ final class DelayedTeleportTask extends BukkitRunnable
 		}
 	}
 
+
+	/**
+	 * Remove one LodeStar item from the player inventory. The slot the item was used from is checked first,
+	 * and only if it no longer holds a matching item are the remaining storage slots and off hand searched.
+	 *
+	 * @param sourceSlot the inventory slot the item was used from, or -1 if unknown
+	 * @return true if an item was removed, false if no matching item was found
+	 */
+	private boolean removeOneItem(final int sourceSlot)
+	{
+		final PlayerInventory inventory = player.getInventory();
+		final int slot = findItemSlot(inventory, sourceSlot);
+
+		if (slot < 0)
+		{
+			return false;
+		}
+
+		final ItemStack itemStack = inventory.getItem(slot);
+		if (itemStack == null)
+		{
+			return false;
+		}
+
+		// write decremented stack directly to slot, or clear slot if no items remain
+		final int amount = itemStack.getAmount() - 1;
+		if (amount > 0)
+		{
+			itemStack.setAmount(amount);
+			inventory.setItem(slot, itemStack);
+		}
+		else
+		{
+			inventory.setItem(slot, null);
+		}
+
+		return true;
+	}
+
+
+	/**
+	 * Get the slot of an item similar to the LodeStar item used to initiate the teleport
+	 *
+	 * @param inventory the player inventory
+	 * @param sourceSlot the inventory slot the item was used from, or -1 if unknown
+	 * @return the slot index, or -1 if no similar item was found
+	 */
+	private int findItemSlot(final PlayerInventory inventory, final int sourceSlot)
+	{
+		if (sourceSlot >= 0 && playerItem.isSimilar(inventory.getItem(sourceSlot)))
+		{
+			return sourceSlot;
+		}
+
+		for (int slot = 0; slot < STORAGE_SLOT_COUNT; slot++)
+		{
+			if (slot != sourceSlot && playerItem.isSimilar(inventory.getItem(slot)))
+			{
+				return slot;
+			}
+		}
+
+		return (playerItem.isSimilar(inventory.getItem(OFF_HAND_SLOT)))
+				? OFF_HAND_SLOT
+				: -1;
+	}
+
 }
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.teleporter.bukkit;
+
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.metrics.jfr.ChunkPreloadEvent;
+import com.winterhavenmc.lodestar.models.destination.Destination;
+import com.winterhavenmc.lodestar.models.destination.SpawnDestination;
+import com.winterhavenmc.lodestar.models.destination.StoredDestination;
+import com.winterhavenmc.lodestar.models.location.WorldRegistry;
+import com.winterhavenmc.lodestar.util.TeleportCtx;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.winterhavenmc.library.messagebuilder.models.time.TimeUnit.SECONDS;
+
+
+/**
+ * Resolves the destination of a LodeStar item when it is brought into a player's main hand, and loads the
+ * destination chunk ahead of use, so that the repository lookup and chunk load are already complete when the
+ * player initiates a teleport. The chunk is held loaded with a plugin chunk ticket until the player switches
+ * away from the item, leaves, teleports, or the configured prefetch duration expires.
+ * <p>
+ * The chunk is loaded only on servers that provide {@code World#getChunkAtAsync}, and the ticket is added once
+ * the chunk has loaded, so no chunk is loaded or generated on the main thread for an item that may never be used.
+ * Elsewhere, only the destination is resolved, warming the repository cache. Home destinations are not prefetched,
+ * because resolving a player respawn location may itself load chunks.
+ */
+final class DestinationPrefetcher
+{
+	// asynchronous chunk load, or null if the server does not provide one
+	private static final MethodHandle GET_CHUNK_AT_ASYNC = findGetChunkAtAsync();
+
+	private final TeleportCtx ctx;
+
+	// map of player uid to pending or active prefetch
+	private final Map<UUID, PrefetchTask> prefetchMap = new HashMap<>();
+
+	// map of chunk to number of holders; plugin chunk tickets are not counted by the server
+	private final Map<ChunkKey, Integer> ticketCounts = new HashMap<>();
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param ctx the teleport context
+	 */
+	DestinationPrefetcher(final TeleportCtx ctx)
+	{
+		this.ctx = ctx;
+	}
+
+
+	/**
+	 * Start a prefetch of a destination for a player, replacing any existing prefetch for the player
+	 *
+	 * @param player the player holding the LodeStar item
+	 * @param destinationKey the destination key decoded from the item
+	 */
+	void start(final Player player, final String destinationKey)
+	{
+		cancel(player);
+
+		PrefetchTask prefetchTask = new PrefetchTask(player.getUniqueId(), player.getWorld().getUID(), destinationKey);
+		long durationTicks = Math.max(1L, SECONDS.toTicks(ctx.plugin().getConfig().getLong("prefetch-duration")));
+		prefetchTask.runTaskTimer(ctx.plugin(), 1L, durationTicks);
+		prefetchMap.put(player.getUniqueId(), prefetchTask);
+	}
+
+
+	/**
+	 * Cancel any prefetch for a player, and release its chunk ticket
+	 *
+	 * @param player the player whose prefetch is to be cancelled
+	 */
+	void cancel(final Player player)
+	{
+		PrefetchTask prefetchTask = prefetchMap.remove(player.getUniqueId());
+		if (prefetchTask != null)
+		{
+			prefetchTask.release();
+		}
+	}
+
+
+	/**
+	 * Cancel all prefetches, and release their chunk tickets
+	 */
+	void cancelAll()
+	{
+		prefetchMap.values().forEach(PrefetchTask::release);
+		prefetchMap.clear();
+	}
+
+
+	/**
+	 * Get the number of pending or active prefetches
+	 *
+	 * @return the number of pending or active prefetches
+	 */
+	int size()
+	{
+		return prefetchMap.size();
+	}
+
+
+	/**
+	 * Add a chunk ticket, loading the chunk if it is not already loaded
+	 *
+	 * @param world the world of the chunk
+	 * @param chunkKey the chunk to hold loaded
+	 */
+	void acquireTicket(final World world, final ChunkKey chunkKey)
+	{
+		if (ticketCounts.merge(chunkKey, 1, Integer::sum) == 1)
+		{
+			final ChunkPreloadEvent event = new ChunkPreloadEvent();
+			event.begin();
+
+			final boolean alreadyLoaded = world.isChunkLoaded(chunkKey.x(), chunkKey.z());
+			world.addPluginChunkTicket(chunkKey.x(), chunkKey.z(), ctx.plugin());
+
+			event.end();
+			if (event.shouldCommit())
+			{
+				event.source = "prefetch";
+				event.world = world.getName();
+				event.chunkX = chunkKey.x();
+				event.chunkZ = chunkKey.z();
+				event.alreadyLoaded = alreadyLoaded;
+				event.commit();
+			}
+		}
+	}
+
+
+	/**
+	 * Release a chunk ticket, removing the plugin ticket when nothing else holds the chunk
+	 *
+	 * @param chunkKey the chunk to release
+	 */
+	void releaseTicket(final ChunkKey chunkKey)
+	{
+		if (ticketCounts.merge(chunkKey, -1, Integer::sum) <= 0)
+		{
+			ticketCounts.remove(chunkKey);
+			World world = WorldRegistry.get(chunkKey.worldUid());
+			if (world != null)
+			{
+				world.removePluginChunkTicket(chunkKey.x(), chunkKey.z(), ctx.plugin());
+			}
+		}
+	}
+
+
+	/**
+	 * Request an asynchronous load of a chunk
+	 *
+	 * @param world the world of the chunk
+	 * @param chunkKey the chunk to load
+	 * @return a future completed when the chunk has loaded, or null if asynchronous chunk loading is not available
+	 */
+	private static CompletableFuture<?> loadChunkAsync(final World world, final ChunkKey chunkKey)
+	{
+		if (GET_CHUNK_AT_ASYNC == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			return (CompletableFuture<?>) GET_CHUNK_AT_ASYNC.invoke(world, chunkKey.x(), chunkKey.z());
+		}
+		catch (Throwable throwable)
+		{
+			return null;
+		}
+	}
+
+
+	private static MethodHandle findGetChunkAtAsync()
+	{
+		try
+		{
+			return MethodHandles.publicLookup().findVirtual(World.class, "getChunkAtAsync",
+					MethodType.methodType(CompletableFuture.class, int.class, int.class));
+		}
+		catch (NoSuchMethodException | IllegalAccessException exception)
+		{
+			return null;
+		}
+	}
+
+
+	record ChunkKey(UUID worldUid, int x, int z)
+	{
+		static ChunkKey of(final Location location)
+		{
+			return new ChunkKey(location.getWorld().getUID(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+		}
+	}
+
+
+	/**
+	 * Repeating task whose first run resolves the destination and requests an asynchronous load of the chunk
+	 * at its location, and whose second run releases the chunk ticket added when the load completed
+	 */
+	private final class PrefetchTask extends BukkitRunnable
+	{
+		private final UUID playerUid;
+		private final UUID playerWorldUid;
+		private final String destinationKey;
+		private boolean started;
+		private boolean released;
+		private ChunkKey ticket;
+
+
+		private PrefetchTask(final UUID playerUid, final UUID playerWorldUid, final String destinationKey)
+		{
+			this.playerUid = playerUid;
+			this.playerWorldUid = playerWorldUid;
+			this.destinationKey = destinationKey;
+		}
+
+
+		@Override
+		public void run()
+		{
+			final long startTime = System.nanoTime();
+			prefetch();
+			ctx.metrics().record(Operation.TASK_PREFETCH, System.nanoTime() - startTime, destinationKey);
+		}
+
+
+		private void prefetch()
+		{
+			if (started)
+			{
+				release();
+				prefetchMap.remove(playerUid, this);
+				return;
+			}
+			started = true;
+
+			Location location = resolveLocation();
+			World world = (location != null) ? location.getWorld() : null;
+			CompletableFuture<?> chunkLoad = (world != null) ? loadChunkAsync(world, ChunkKey.of(location)) : null;
+
+			// without an asynchronous chunk load, warming the repository cache is all that is done
+			if (chunkLoad == null)
+			{
+				release();
+				prefetchMap.remove(playerUid, this);
+				return;
+			}
+
+			final ChunkKey chunkKey = ChunkKey.of(location);
+			chunkLoad.whenComplete((chunk, throwable) ->
+			{
+				if (throwable == null && ctx.plugin().isEnabled())
+				{
+					ctx.plugin().getServer().getScheduler().runTask(ctx.plugin(), () -> hold(world, chunkKey));
+				}
+			});
+		}
+
+
+		/**
+		 * Add a chunk ticket for a chunk that has finished loading, unless the prefetch has since been released
+		 * or the world unloaded
+		 */
+		private void hold(final World world, final ChunkKey chunkKey)
+		{
+			if (!released && ticket == null && WorldRegistry.isLoaded(chunkKey.worldUid()))
+			{
+				ticket = chunkKey;
+				acquireTicket(world, chunkKey);
+			}
+		}
+
+
+		/**
+		 * Resolve the item destination to a location, warming the repository cache for stored destinations
+		 *
+		 * @return the destination location, or null if the destination is not prefetched
+		 */
+		private Location resolveLocation()
+		{
+			Destination destination = ctx.lodeStarUtility().getDestination(destinationKey);
+
+			return switch (destination)
+			{
+				case StoredDestination storedDestination -> storedDestination.getLocation();
+				case SpawnDestination ignored -> ctx.messageBuilder().worlds().spawnLocation(playerWorldUid).orElse(null);
+				default -> null;
+			};
+		}
+
+
+		/**
+		 * Cancel this task and release the chunk ticket, if held
+		 */
+		private void release()
+		{
+			released = true;
+			cancel();
+
+			if (ticket != null)
+			{
+				releaseTicket(ticket);
+				ticket = null;
+			}
+		}
+	}
+
+}
@@ -31,10 +31,11 @@ final class DestinationTeleporter extends AbstractTeleporter implements Teleport
 	 * Class constructor
 	 *
 	 * @param teleportExecutor the teleport executor
+	 * @param spawnLocationCache the world spawn location cache
 	 */
-	DestinationTeleporter(final TeleportCtx ctx, final TeleportExecutor teleportExecutor)
+	DestinationTeleporter(final TeleportCtx ctx, final TeleportExecutor teleportExecutor, final SpawnLocationCache spawnLocationCache)
 	{
-		super(ctx, teleportExecutor);
+		super(ctx, teleportExecutor, spawnLocationCache);
 	}
 
 
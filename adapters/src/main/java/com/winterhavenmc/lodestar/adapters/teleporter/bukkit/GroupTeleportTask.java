@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.teleporter.bukkit;
+
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.models.destination.ValidDestination;
+import com.winterhavenmc.lodestar.ports.teleporter.TeleportHandler;
+import com.winterhavenmc.lodestar.util.Macro;
+import com.winterhavenmc.lodestar.util.MessageId;
+import com.winterhavenmc.lodestar.util.SoundId;
+import com.winterhavenmc.lodestar.util.TeleportCtx;
+
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Repeating task that teleports a group of players to a destination in batches, so that moving a large group
+ * does not stall a single tick. Each run teleports players until the configured batch size or tick time budget
+ * is reached. The destination chunk is held loaded for the duration of the task, and the command sender is
+ * sent a progress message about once a second, and a summary message when the task completes.
+ */
+final class GroupTeleportTask extends BukkitRunnable
+{
+	private static final int PROGRESS_INTERVAL_TICKS = 20;
+
+	private final TeleportCtx ctx;
+	private final TeleportHandler teleportHandler;
+	private final DestinationPrefetcher destinationPrefetcher;
+	private final CommandSender sender;
+	private final ValidDestination validDestination;
+	private final Location location;
+	private final DestinationPrefetcher.ChunkKey ticket;
+	private final Deque<Player> pending;
+	private final int total;
+	private final int batchSize;
+	private final long tickBudgetNanos;
+	private int teleported;
+	private int ticks;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param ctx the teleport context
+	 * @param teleportHandler the teleport handler
+	 * @param destinationPrefetcher the prefetcher that counts plugin chunk tickets
+	 * @param sender the command sender to receive progress messages
+	 * @param validDestination the destination
+	 * @param location the destination location
+	 * @param players the players to teleport
+	 */
+	GroupTeleportTask(final TeleportCtx ctx,
+	                  final TeleportHandler teleportHandler,
+	                  final DestinationPrefetcher destinationPrefetcher,
+	                  final CommandSender sender,
+	                  final ValidDestination validDestination,
+	                  final Location location,
+	                  final Collection<? extends Player> players)
+	{
+		this.ctx = ctx;
+		this.teleportHandler = teleportHandler;
+		this.destinationPrefetcher = destinationPrefetcher;
+		this.sender = sender;
+		this.validDestination = validDestination;
+		this.location = location;
+		this.pending = new ArrayDeque<>(players);
+		this.total = players.size();
+		this.batchSize = Math.max(1, ctx.plugin().getConfig().getInt("group-teleport-batch-size", 10));
+		this.tickBudgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, ctx.plugin().getConfig().getInt("group-teleport-tick-budget", 10)));
+
+		// load destination chunk once, and hold it loaded until all players have been moved
+		this.ticket = DestinationPrefetcher.ChunkKey.of(location);
+		destinationPrefetcher.acquireTicket(location.getWorld(), ticket);
+	}
+
+
+	@Override
+	public void run()
+	{
+		final long startTime = System.nanoTime();
+		int count = 0;
+
+		while (!pending.isEmpty() && count < batchSize && System.nanoTime() - startTime < tickBudgetNanos)
+		{
+			final Player player = pending.poll();
+			count++;
+
+			if (player.isOnline() && teleport(player))
+			{
+				teleported++;
+			}
+		}
+
+		if (pending.isEmpty())
+		{
+			finish();
+		}
+		else if (++ticks % PROGRESS_INTERVAL_TICKS == 0)
+		{
+			ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_TELEPORT_GROUP_PROGRESS)
+					.setMacro(Macro.DESTINATION, validDestination)
+					.setMacro(Macro.COUNT, total - pending.size())
+					.setMacro(Macro.TOTAL, total)
+					.send();
+		}
+
+		ctx.metrics().record(Operation.TASK_GROUP_TELEPORT, System.nanoTime() - startTime, count);
+	}
+
+
+	/**
+	 * Teleport a single player to the destination, cancelling any pending teleport for the player
+	 *
+	 * @param player the player to teleport
+	 * @return true if the player was teleported, false if the teleport was cancelled
+	 */
+	private boolean teleport(final Player player)
+	{
+		teleportHandler.cancelTeleport(player);
+
+		if (!player.teleport(location.clone()))
+		{
+			return false;
+		}
+
+		ctx.messageBuilder().sounds().play(player, SoundId.TELEPORT_SUCCESS_ARRIVAL);
+		ctx.messageBuilder().compose(player, MessageId.EVENT_TELEPORT_SUCCESS_DESTINATION)
+				.setMacro(Macro.DESTINATION, validDestination)
+				.send();
+		return true;
+	}
+
+
+	/**
+	 * Cancel this task, release the destination chunk, and send summary message
+	 */
+	private void finish()
+	{
+		cancel();
+		destinationPrefetcher.releaseTicket(ticket);
+
+		ctx.messageBuilder().compose(sender, MessageId.COMMAND_SUCCESS_TELEPORT_GROUP)
+				.setMacro(Macro.DESTINATION, validDestination)
+				.setMacro(Macro.COUNT, teleported)
+				.setMacro(Macro.TOTAL, total)
+				.send();
+	}
+
+}
@@ -0,0 +1,541 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.teleporter.bukkit;
+
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.util.TeleportCtx;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.type.RespawnAnchor;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Caches the resolved respawn location of each player, so that home teleports do not validate the player's
+ * bed or respawn anchor block on every use. An entry is discarded when the player's spawn is changed, when a bed
+ * or respawn anchor near it is broken or destroyed by an explosion, or when its world is unloaded.
+ * <p>
+ * When a location is resolved, the bed or respawn anchor it is bound to is recorded, and the type of that one block
+ * is checked before each use of the cached location, so that a block removed by any means is never teleported to.
+ * If the block is gone, the respawn location is resolved from the server again.
+ * <p>
+ * An entry whose block could not be recorded is checked again off the main thread once older than the revalidation
+ * interval, against snapshots of the chunks around the location. If no bed or charged respawn anchor is found,
+ * the entry is marked stale, and the next home teleport resolves the respawn location from the server again.
+ * A respawn location that is confirmed by the server after failing a block check is not bound to a block,
+ * and is not checked again.
+ * <p>
+ * On servers without the player spawn change event, a changed spawn cannot be detected, so nothing is cached
+ * and each lookup is passed to the server.
+ */
+final class HomeLocationCache implements Listener
+{
+	private static final long REVALIDATE_INTERVAL_MILLIS = 60_000L;
+
+	// horizontal and vertical distance from respawn location searched for a bed or respawn anchor
+	private static final int SEARCH_RADIUS = 2;
+
+	private final TeleportCtx ctx;
+
+	// map of player uid to cached home entry; written by revalidation tasks off the main thread
+	private final Map<UUID, HomeEntry> homeMap = new ConcurrentHashMap<>();
+
+	// false if the server cannot report spawn changes, so locations are not cached
+	private final boolean cacheEnabled;
+
+
+	/**
+	 * Cached respawn location of a player
+	 *
+	 * @param location the respawn location, or null if the player has no respawn location
+	 * @param respawnBlock the bed or respawn anchor block the location is bound to, or null if it was not found
+	 * @param verifyBlock true if the location is bound to a bed or respawn anchor that should be revalidated
+	 * @param stale true if the location failed revalidation and must be resolved again
+	 * @param validatedAt the time the location was last resolved or revalidated, in epoch milliseconds
+	 */
+	private record HomeEntry(Location location, Block respawnBlock, boolean verifyBlock, boolean stale, long validatedAt)
+	{
+		HomeEntry asStale()
+		{
+			return new HomeEntry(location, respawnBlock, verifyBlock, true, validatedAt);
+		}
+	}
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param ctx the teleport context
+	 */
+	HomeLocationCache(final TeleportCtx ctx)
+	{
+		this.ctx = ctx;
+
+		// register events in this class
+		ctx.plugin().getServer().getPluginManager().registerEvents(this, ctx.plugin());
+
+		// register spawn change listener only if the server has the event
+		this.cacheEnabled = registerSpawnChangeListener();
+	}
+
+
+	/**
+	 * Get the respawn location of a player
+	 *
+	 * @param player the player
+	 * @return {@link Optional} wrapped copy of the player respawn location, or an empty optional if the player has none
+	 */
+	Optional<Location> homeLocation(final Player player)
+	{
+		if (player == null)
+		{
+			return Optional.empty();
+		}
+
+		if (!cacheEnabled)
+		{
+			return Optional.ofNullable(player.getRespawnLocation());
+		}
+
+		final UUID playerUid = player.getUniqueId();
+		HomeEntry entry = homeMap.get(playerUid);
+
+		if (entry == null || entry.stale())
+		{
+			entry = resolve(player, entry);
+			homeMap.put(playerUid, entry);
+		}
+		else if (entry.respawnBlock() != null && !isRespawnBlock(entry.respawnBlock()))
+		{
+			// recorded block is gone or its chunk is unloaded, so fall back to the server; only a location confirmed
+			// after its block is gone is known not to be bound to the block
+			entry = resolve(player, isChunkLoaded(entry.respawnBlock()) ? entry.asStale() : entry);
+			homeMap.put(playerUid, entry);
+		}
+		else if (entry.respawnBlock() == null && entry.verifyBlock()
+				&& System.currentTimeMillis() - entry.validatedAt() > REVALIDATE_INTERVAL_MILLIS)
+		{
+			revalidate(playerUid, entry);
+		}
+
+		return (entry.location() != null)
+				? Optional.of(entry.location().clone())
+				: Optional.empty();
+	}
+
+
+	/**
+	 * Get the number of cached home locations
+	 *
+	 * @return the number of cached home locations
+	 */
+	int size()
+	{
+		return homeMap.size();
+	}
+
+
+	/**
+	 * Register a listener for player spawn changes, if the server has the event
+	 *
+	 * @return true if the listener was registered, false if the server does not have the event
+	 */
+	private boolean registerSpawnChangeListener()
+	{
+		try
+		{
+			Class.forName("org.bukkit.event.player.PlayerSpawnChangeEvent");
+		}
+		catch (ClassNotFoundException exception)
+		{
+			ctx.plugin().getLogger().info("Player spawn change event not available; home locations will not be cached.");
+			return false;
+		}
+
+		ctx.plugin().getServer().getPluginManager().registerEvents(new PlayerSpawnChangeListener(ctx.metrics(), homeMap::remove), ctx.plugin());
+		ctx.plugin().getLogger().info("Player spawn change event available; home locations will be cached.");
+		return true;
+	}
+
+
+	/**
+	 * Resolve the respawn location of a player from the server
+	 *
+	 * @param player the player
+	 * @param previous the previous cache entry for the player, or null if none
+	 * @return the new cache entry
+	 */
+	private HomeEntry resolve(final Player player, final HomeEntry previous)
+	{
+		final Location location = player.getRespawnLocation();
+
+		// a location the server still confirms after it failed the block check is not bound to a bed or anchor
+		final boolean verifyBlock = location != null
+				&& !(previous != null && previous.stale() && sameBlock(location, previous.location()));
+
+		final Block respawnBlock = verifyBlock ? findRespawnBlock(location) : null;
+
+		return new HomeEntry(location, respawnBlock, verifyBlock, false, System.currentTimeMillis());
+	}
+
+
+	/**
+	 * Find the bed or charged respawn anchor nearest to a respawn location, in loaded chunks only
+	 *
+	 * @param location the respawn location
+	 * @return the block, or null if none was found
+	 */
+	private static Block findRespawnBlock(final Location location)
+	{
+		final World world = location.getWorld();
+		if (world == null)
+		{
+			return null;
+		}
+
+		final int blockX = location.getBlockX();
+		final int blockY = location.getBlockY();
+		final int blockZ = location.getBlockZ();
+		final int minY = Math.max(world.getMinHeight(), blockY - SEARCH_RADIUS);
+		final int maxY = Math.min(world.getMaxHeight() - 1, blockY + SEARCH_RADIUS);
+
+		Block nearest = null;
+		int nearestDistance = Integer.MAX_VALUE;
+
+		for (int x = blockX - SEARCH_RADIUS; x <= blockX + SEARCH_RADIUS; x++)
+		{
+			for (int z = blockZ - SEARCH_RADIUS; z <= blockZ + SEARCH_RADIUS; z++)
+			{
+				if (!world.isChunkLoaded(x >> 4, z >> 4))
+				{
+					continue;
+				}
+
+				for (int y = minY; y <= maxY; y++)
+				{
+					final int distance = (x - blockX) * (x - blockX) + (y - blockY) * (y - blockY) + (z - blockZ) * (z - blockZ);
+					if (distance < nearestDistance)
+					{
+						final Block block = world.getBlockAt(x, y, z);
+						if (isRespawnBlock(block.getType(), block))
+						{
+							nearest = block;
+							nearestDistance = distance;
+						}
+					}
+				}
+			}
+		}
+		return nearest;
+	}
+
+
+	/**
+	 * Check that a recorded block is still a bed or charged respawn anchor, without loading its chunk
+	 *
+	 * @param block the recorded block
+	 * @return true if the block is loaded and is a bed or charged respawn anchor, false if not
+	 */
+	private static boolean isRespawnBlock(final Block block)
+	{
+		return isChunkLoaded(block) && isRespawnBlock(block.getType(), block);
+	}
+
+
+	private static boolean isChunkLoaded(final Block block)
+	{
+		return block.getWorld().isChunkLoaded(block.getX() >> 4, block.getZ() >> 4);
+	}
+
+
+	private static boolean isRespawnBlock(final Material type, final Block block)
+	{
+		return Tag.BEDS.isTagged(type)
+				|| (type == Material.RESPAWN_ANCHOR
+				&& block.getBlockData() instanceof RespawnAnchor respawnAnchor
+				&& respawnAnchor.getCharges() > 0);
+	}
+
+
+	/**
+	 * Check for a bed or charged respawn anchor near a cached location, using chunk snapshots taken on the main
+	 * thread and examined asynchronously. If any chunk in the search area is not loaded, the check is skipped.
+	 *
+	 * @param playerUid the uid of the player
+	 * @param entry the cache entry to revalidate
+	 */
+	private void revalidate(final UUID playerUid, final HomeEntry entry)
+	{
+		final Location location = entry.location();
+		final World world = location.getWorld();
+
+		if (world == null)
+		{
+			homeMap.remove(playerUid, entry);
+			return;
+		}
+
+		// take snapshots of all chunks in search area
+		final int blockX = location.getBlockX();
+		final int blockY = location.getBlockY();
+		final int blockZ = location.getBlockZ();
+		final Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+
+		for (int chunkX = (blockX - SEARCH_RADIUS) >> 4; chunkX <= (blockX + SEARCH_RADIUS) >> 4; chunkX++)
+		{
+			for (int chunkZ = (blockZ - SEARCH_RADIUS) >> 4; chunkZ <= (blockZ + SEARCH_RADIUS) >> 4; chunkZ++)
+			{
+				if (!world.isChunkLoaded(chunkX, chunkZ))
+				{
+					return;
+				}
+				snapshots.put(chunkKey(chunkX, chunkZ), world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false));
+			}
+		}
+
+		// record revalidation time now, so only one revalidation is in progress for the entry
+		final HomeEntry pending = new HomeEntry(location, null, true, false, System.currentTimeMillis());
+		if (!homeMap.replace(playerUid, entry, pending))
+		{
+			return;
+		}
+
+		final int minY = Math.max(world.getMinHeight(), blockY - SEARCH_RADIUS);
+		final int maxY = Math.min(world.getMaxHeight() - 1, blockY + SEARCH_RADIUS);
+
+		ctx.plugin().getServer().getScheduler().runTaskAsynchronously(ctx.plugin(), () ->
+		{
+			if (!hasRespawnBlock(snapshots, blockX, blockZ, minY, maxY))
+			{
+				homeMap.replace(playerUid, pending, pending.asStale());
+			}
+		});
+	}
+
+
+	/**
+	 * Search chunk snapshots for a bed or charged respawn anchor around a block position
+	 *
+	 * @return true if a bed or charged respawn anchor was found, false if not
+	 */
+	private static boolean hasRespawnBlock(final Map<Long, ChunkSnapshot> snapshots,
+	                                       final int blockX,
+	                                       final int blockZ,
+	                                       final int minY,
+	                                       final int maxY)
+	{
+		for (int x = blockX - SEARCH_RADIUS; x <= blockX + SEARCH_RADIUS; x++)
+		{
+			for (int z = blockZ - SEARCH_RADIUS; z <= blockZ + SEARCH_RADIUS; z++)
+			{
+				final ChunkSnapshot snapshot = snapshots.get(chunkKey(x >> 4, z >> 4));
+
+				for (int y = minY; y <= maxY; y++)
+				{
+					final Material type = snapshot.getBlockType(x & 15, y, z & 15);
+
+					if (Tag.BEDS.isTagged(type))
+					{
+						return true;
+					}
+
+					if (type == Material.RESPAWN_ANCHOR)
+					{
+						final BlockData blockData = snapshot.getBlockData(x & 15, y, z & 15);
+						if (blockData instanceof RespawnAnchor respawnAnchor && respawnAnchor.getCharges() > 0)
+						{
+							return true;
+						}
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+
+	private static long chunkKey(final int chunkX, final int chunkZ)
+	{
+		return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+
+	private static boolean sameBlock(final Location location, final Location other)
+	{
+		return other != null
+				&& location.getWorld() != null
+				&& location.getWorld().equals(other.getWorld())
+				&& location.getBlockX() == other.getBlockX()
+				&& location.getBlockY() == other.getBlockY()
+				&& location.getBlockZ() == other.getBlockZ();
+	}
+
+
+	/**
+	 * Discard cached locations near a bed or respawn anchor that is broken
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockBreak(final BlockBreakEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			discardNearRespawnBlocks(List.of(event.getBlock()));
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_BLOCK_BREAK, System.nanoTime() - startTime, event.getBlock());
+		}
+	}
+
+
+	/**
+	 * Discard cached locations near a bed or respawn anchor destroyed by a block explosion. The exploding block
+	 * is included regardless of type, since a detonated bed or respawn anchor may already have been removed.
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockExplode(final BlockExplodeEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			discardNear(event.getBlock());
+			discardNearRespawnBlocks(event.blockList());
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_EXPLODE, System.nanoTime() - startTime, event.getBlock());
+		}
+	}
+
+
+	/**
+	 * Discard cached locations near a bed or respawn anchor destroyed by an entity explosion
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onEntityExplode(final EntityExplodeEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			discardNearRespawnBlocks(event.blockList());
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_EXPLODE, System.nanoTime() - startTime, event.getEntity());
+		}
+	}
+
+
+	private void discardNearRespawnBlocks(final List<Block> blocks)
+	{
+		for (Block block : blocks)
+		{
+			if (Tag.BEDS.isTagged(block.getType()) || block.getType() == Material.RESPAWN_ANCHOR)
+			{
+				discardNear(block);
+			}
+		}
+	}
+
+
+	private void discardNear(final Block block)
+	{
+		final UUID worldUid = block.getWorld().getUID();
+
+		// a bed occupies two blocks, so allow one additional block of distance
+		homeMap.values().removeIf(entry -> entry.location() != null
+				&& entry.location().getWorld() != null
+				&& entry.location().getWorld().getUID().equals(worldUid)
+				&& Math.abs(entry.location().getBlockX() - block.getX()) <= SEARCH_RADIUS + 1
+				&& Math.abs(entry.location().getBlockY() - block.getY()) <= SEARCH_RADIUS + 1
+				&& Math.abs(entry.location().getBlockZ() - block.getZ()) <= SEARCH_RADIUS + 1);
+	}
+
+
+	/**
+	 * Discard cached locations in a world that is unloaded
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onWorldUnload(final WorldUnloadEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			final UUID worldUid = event.getWorld().getUID();
+
+			homeMap.values().removeIf(entry -> entry.location() != null
+					&& entry.location().getWorld() != null
+					&& entry.location().getWorld().getUID().equals(worldUid));
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_WORLD, System.nanoTime() - startTime, event.getWorld());
+		}
+	}
+
+
+	/**
+	 * Discard cached location when a player leaves the server
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onPlayerQuit(final PlayerQuitEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			homeMap.remove(event.getPlayer().getUniqueId());
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_PLAYER_QUIT, System.nanoTime() - startTime, event.getPlayer());
+		}
+	}
+
+}
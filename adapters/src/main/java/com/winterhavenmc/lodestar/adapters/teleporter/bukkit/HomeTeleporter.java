@@ -30,14 +30,23 @@ import org.bukkit.entity.Player;
 
 final class HomeTeleporter extends AbstractTeleporter implements Teleporter
 {
+	private final HomeLocationCache homeLocationCache;
+
+
 	/**
 	 * Class constructor
 	 *
 	 * @param teleportExecutor the teleport executor
+	 * @param spawnLocationCache the world spawn location cache
+	 * @param homeLocationCache the player respawn location cache
 	 */
-	HomeTeleporter(final TeleportCtx ctx, final TeleportExecutor teleportExecutor)
+	HomeTeleporter(final TeleportCtx ctx,
+	               final TeleportExecutor teleportExecutor,
+	               final SpawnLocationCache spawnLocationCache,
+	               final HomeLocationCache homeLocationCache)
 	{
-		super(ctx, teleportExecutor);
+		super(ctx, teleportExecutor, spawnLocationCache);
+		this.homeLocationCache = homeLocationCache;
 	}
 
 
@@ -50,7 +59,7 @@ final class HomeTeleporter extends AbstractTeleporter implements Teleporter
 	public void initiate(final Player player)
 	{
 		if (getHomeDestination(player) instanceof ValidDestination validDestination
-				&& ConfirmedLocation.of(player.getRespawnLocation()) instanceof ValidLocation validLocation)
+				&& ConfirmedLocation.of(homeLocationCache.homeLocation(player).orElse(null)) instanceof ValidLocation validLocation)
 		{
 			switch (TeleportDestination.of(validDestination, validLocation))
 			{
@@ -58,6 +67,10 @@ final class HomeTeleporter extends AbstractTeleporter implements Teleporter
 				case InvalidDestination ignored -> fallbackToSpawn(player);
 			}
 		}
+		else
+		{
+			fallbackToSpawn(player);
+		}
 	}
 
 
@@ -70,7 +83,7 @@ final class HomeTeleporter extends AbstractTeleporter implements Teleporter
 	{
 		if (ctx.plugin().getConfig().getBoolean("bedspawn-fallback"))
 		{
-			SpawnTeleporter spawnTeleporter = new SpawnTeleporter(ctx, teleportExecutor);
+			SpawnTeleporter spawnTeleporter = new SpawnTeleporter(ctx, teleportExecutor, spawnLocationCache);
 
 			switch (getSpawnDestination(player))
 			{
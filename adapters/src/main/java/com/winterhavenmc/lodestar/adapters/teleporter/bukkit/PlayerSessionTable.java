@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.adapters.teleporter.bukkit;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+
+/**
+ * Teleport state of every player, held in one open-addressing table keyed on the bits of the player uid.
+ * Each session records the pending warmup task id and source inventory slot,
+ * and the cooldown expiry, in parallel primitive arrays, so the warmup and cooldown checks made on every
+ * interaction and move event are a single probe with no boxing or allocation.
+ * <p>
+ * Sessions are opened when a player joins and closed when they quit. A session still in cooldown when its player
+ * quits is kept, so that leaving the server does not end a cooldown, and is discarded when the table next grows
+ * after the cooldown expires. Warmups and cooldowns started for a player without a session open one.
+ * <p>
+ * The table may be used from any thread. Times are in epoch milliseconds.
+ */
+final class PlayerSessionTable
+{
+	static final int NO_TASK = -1;
+	static final int NO_SLOT = -1;
+	static final int WARMUP_ENDED = Integer.MIN_VALUE;
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private static final byte OCCUPIED = 1;
+	private static final byte ONLINE = 2;
+
+	// session keys and flags
+	private long[] uidMsb;
+	private long[] uidLsb;
+	private byte[] flags;
+
+	// session state
+	private int[] warmupTaskIds;
+	private int[] sourceSlots;
+	private long[] cooldownExpiries;
+
+	private int mask;
+	private int size;
+	private int warmupCount;
+
+
+	/**
+	 * Class constructor
+	 */
+	PlayerSessionTable()
+	{
+		allocate(INITIAL_CAPACITY);
+	}
+
+
+	/**
+	 * Open a session for a player that has joined, or mark a retained session online
+	 *
+	 * @param playerUid the uid of the player
+	 */
+	synchronized void open(final UUID playerUid)
+	{
+		final int slot = slotFor(playerUid);
+		flags[slot] |= ONLINE;
+	}
+
+
+	/**
+	 * Close the session of a player that has quit. The pending warmup, if any, must already have been cancelled.
+	 *
+	 * @param playerUid the uid of the player
+	 * @param now the current time
+	 */
+	synchronized void close(final UUID playerUid, final long now)
+	{
+		final int slot = find(playerUid);
+		if (slot < 0)
+		{
+			return;
+		}
+
+		clearWarmup(slot);
+		if (cooldownExpiries[slot] > now)
+		{
+			flags[slot] &= ~ONLINE;
+		}
+		else
+		{
+			removeAt(slot);
+		}
+	}
+
+
+	/**
+	 * Record the pending warmup of a player, replacing any existing warmup
+	 *
+	 * @param playerUid the uid of the player
+	 * @param taskId the id of the delayed teleport task
+	 * @param sourceSlot the inventory slot the item was used from, or {@link #NO_SLOT} if unknown
+	 */
+	synchronized void startWarmup(final UUID playerUid, final int taskId, final int sourceSlot)
+	{
+		final int slot = slotFor(playerUid);
+		if (warmupTaskIds[slot] == NO_TASK)
+		{
+			warmupCount++;
+		}
+		warmupTaskIds[slot] = taskId;
+		sourceSlots[slot] = sourceSlot;
+	}
+
+
+	/**
+	 * Test if a player has a pending warmup. A warmup is pending until its task completes or it is cancelled.
+	 *
+	 * @param playerUid the uid of the player
+	 * @return {@code true} if the player is warming up, {@code false} if not
+	 */
+	synchronized boolean isWarmingUp(final UUID playerUid)
+	{
+		final int slot = find(playerUid);
+		return slot >= 0 && warmupTaskIds[slot] != NO_TASK;
+	}
+
+
+	/**
+	 * Remove the pending warmup of a player, returning its task id for cancellation. Only one of any number of
+	 * concurrent callers receives the task id.
+	 *
+	 * @param playerUid the uid of the player
+	 * @return the task id of the removed warmup, or {@link #NO_TASK} if the player was not warming up
+	 */
+	synchronized int cancelWarmup(final UUID playerUid)
+	{
+		final int slot = find(playerUid);
+		if (slot < 0)
+		{
+			return NO_TASK;
+		}
+
+		final int taskId = warmupTaskIds[slot];
+		clearWarmup(slot);
+		removeIfClosed(slot);
+		return taskId;
+	}
+
+
+	/**
+	 * Remove the pending warmup of a player when its task runs, if the warmup still belongs to the task
+	 *
+	 * @param playerUid the uid of the player
+	 * @param taskId the id of the running delayed teleport task
+	 * @return the inventory slot the item was used from, {@link #NO_SLOT} if unknown, or {@link #WARMUP_ENDED}
+	 * if the warmup was cancelled or replaced and the teleport must not proceed
+	 */
+	synchronized int completeWarmup(final UUID playerUid, final int taskId)
+	{
+		final int slot = find(playerUid);
+		if (slot < 0 || taskId == NO_TASK || warmupTaskIds[slot] != taskId)
+		{
+			return WARMUP_ENDED;
+		}
+
+		final int sourceSlot = sourceSlots[slot];
+		clearWarmup(slot);
+		removeIfClosed(slot);
+		return sourceSlot;
+	}
+
+
+	/**
+	 * Set the time a player cooldown expires, replacing any existing cooldown
+	 *
+	 * @param playerUid the uid of the player
+	 * @param expiry the time the cooldown expires
+	 */
+	synchronized void startCooldown(final UUID playerUid, final long expiry)
+	{
+		final int slot = slotFor(playerUid);
+		cooldownExpiries[slot] = expiry;
+	}
+
+
+	/**
+	 * End the cooldown of a player
+	 *
+	 * @param playerUid the uid of the player
+	 */
+	synchronized void cancelCooldown(final UUID playerUid)
+	{
+		final int slot = find(playerUid);
+		if (slot >= 0)
+		{
+			cooldownExpiries[slot] = 0L;
+			removeIfClosed(slot);
+		}
+	}
+
+
+	/**
+	 * Get the time remaining in a player cooldown
+	 *
+	 * @param playerUid the uid of the player
+	 * @param now the current time
+	 * @return the milliseconds remaining, or zero if the player is not cooling down
+	 */
+	synchronized long cooldownRemaining(final UUID playerUid, final long now)
+	{
+		final int slot = find(playerUid);
+		return (slot >= 0) ? Math.max(0L, cooldownExpiries[slot] - now) : 0L;
+	}
+
+
+	/**
+	 * Get the number of players with a pending warmup
+	 *
+	 * @return the number of players with a pending warmup
+	 */
+	synchronized int warmupCount()
+	{
+		return warmupCount;
+	}
+
+
+	/**
+	 * Get the number of players in cooldown
+	 *
+	 * @param now the current time
+	 * @return the number of sessions whose cooldown has not expired
+	 */
+	synchronized int cooldownCount(final long now)
+	{
+		int count = 0;
+		for (int slot = 0; slot <= mask; slot++)
+		{
+			if (flags[slot] != 0 && cooldownExpiries[slot] > now)
+			{
+				count++;
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * Get the number of sessions, including retained sessions of players who quit during a cooldown
+	 *
+	 * @return the number of sessions
+	 */
+	synchronized int size()
+	{
+		return size;
+	}
+
+
+	/**
+	 * Get the slot of a session, inserting an online session if absent. Inserting may grow the table, replacing
+	 * its arrays, so callers must not read an array field before calling.
+	 */
+	private int slotFor(final UUID playerUid)
+	{
+		int slot = find(playerUid);
+		if (slot >= 0)
+		{
+			return slot;
+		}
+
+		if ((size + 1) * 2 > mask + 1)
+		{
+			rehash(System.currentTimeMillis());
+		}
+
+		slot = ~find(playerUid);
+		uidMsb[slot] = playerUid.getMostSignificantBits();
+		uidLsb[slot] = playerUid.getLeastSignificantBits();
+		flags[slot] = OCCUPIED | ONLINE;
+		cooldownExpiries[slot] = 0L;
+		size++;
+		return slot;
+	}
+
+
+	/**
+	 * Find the slot of a session by linear probing
+	 *
+	 * @return the slot of the session, or the bitwise complement of the empty slot where it would be inserted
+	 */
+	private int find(final UUID playerUid)
+	{
+		final long msb = playerUid.getMostSignificantBits();
+		final long lsb = playerUid.getLeastSignificantBits();
+
+		int slot = home(msb, lsb);
+		while (flags[slot] != 0)
+		{
+			if (uidMsb[slot] == msb && uidLsb[slot] == lsb)
+			{
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return ~slot;
+	}
+
+
+	private int home(final long msb, final long lsb)
+	{
+		// finalizer of MurmurHash3, as offline mode uids share their version bits
+		long hash = msb ^ Long.rotateLeft(lsb, 32);
+		hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+		hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return (int) (hash ^ (hash >>> 33)) & mask;
+	}
+
+
+	/**
+	 * Remove a session retained after its player quit, once it holds neither a warmup nor a cooldown
+	 */
+	private void removeIfClosed(final int slot)
+	{
+		if ((flags[slot] & ONLINE) == 0 && warmupTaskIds[slot] == NO_TASK && cooldownExpiries[slot] == 0L)
+		{
+			removeAt(slot);
+		}
+	}
+
+
+	private void clearWarmup(final int slot)
+	{
+		if (warmupTaskIds[slot] != NO_TASK)
+		{
+			warmupCount--;
+		}
+		warmupTaskIds[slot] = NO_TASK;
+		sourceSlots[slot] = NO_SLOT;
+	}
+
+
+	/**
+	 * Remove a session, shifting later sessions of the same probe sequence back so no tombstone is left
+	 */
+	private void removeAt(final int removed)
+	{
+		clearWarmup(removed);
+		size--;
+
+		int gap = removed;
+		int slot = (gap + 1) & mask;
+		while (flags[slot] != 0)
+		{
+			// move the session into the gap unless its home lies cyclically after the gap
+			if (((slot - home(uidMsb[slot], uidLsb[slot])) & mask) >= ((slot - gap) & mask))
+			{
+				move(slot, gap);
+				gap = slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		// empty slots hold no warmup, so the vacated slot is reset without adjusting the warmup count
+		flags[gap] = 0;
+		warmupTaskIds[gap] = NO_TASK;
+		sourceSlots[gap] = NO_SLOT;
+		cooldownExpiries[gap] = 0L;
+	}
+
+
+	private void move(final int from, final int to)
+	{
+		uidMsb[to] = uidMsb[from];
+		uidLsb[to] = uidLsb[from];
+		flags[to] = flags[from];
+		warmupTaskIds[to] = warmupTaskIds[from];
+		sourceSlots[to] = sourceSlots[from];
+		cooldownExpiries[to] = cooldownExpiries[from];
+	}
+
+
+	/**
+	 * Rebuild the table, doubling its capacity if still over half full after discarding retained sessions
+	 * whose cooldown has expired
+	 */
+	private void rehash(final long now)
+	{
+		final long[] oldMsb = uidMsb;
+		final long[] oldLsb = uidLsb;
+		final byte[] oldFlags = flags;
+		final int[] oldTaskIds = warmupTaskIds;
+		final int[] oldSourceSlots = sourceSlots;
+		final long[] oldExpiries = cooldownExpiries;
+
+		int live = 0;
+		for (int slot = 0; slot < oldFlags.length; slot++)
+		{
+			if (isLive(oldFlags[slot], oldTaskIds[slot], oldExpiries[slot], now))
+			{
+				live++;
+			}
+		}
+
+		allocate(((live + 1) * 2 > oldFlags.length) ? oldFlags.length * 2 : oldFlags.length);
+
+		for (int old = 0; old < oldFlags.length; old++)
+		{
+			if (isLive(oldFlags[old], oldTaskIds[old], oldExpiries[old], now))
+			{
+				int slot = home(oldMsb[old], oldLsb[old]);
+				while (flags[slot] != 0)
+				{
+					slot = (slot + 1) & mask;
+				}
+				uidMsb[slot] = oldMsb[old];
+				uidLsb[slot] = oldLsb[old];
+				flags[slot] = oldFlags[old];
+				warmupTaskIds[slot] = oldTaskIds[old];
+				sourceSlots[slot] = oldSourceSlots[old];
+				cooldownExpiries[slot] = oldExpiries[old];
+				size++;
+				if (oldTaskIds[old] != NO_TASK)
+				{
+					warmupCount++;
+				}
+			}
+		}
+	}
+
+
+	private static boolean isLive(final byte flags, final int taskId, final long cooldownExpiry, final long now)
+	{
+		return flags != 0 && ((flags & ONLINE) != 0 || taskId != NO_TASK || cooldownExpiry > now);
+	}
+
+
+	private void allocate(final int capacity)
+	{
+		uidMsb = new long[capacity];
+		uidLsb = new long[capacity];
+		flags = new byte[capacity];
+		warmupTaskIds = new int[capacity];
+		sourceSlots = new int[capacity];
+		cooldownExpiries = new long[capacity];
+		Arrays.fill(warmupTaskIds, NO_TASK);
+		Arrays.fill(sourceSlots, NO_SLOT);
+		mask = capacity - 1;
+		size = 0;
+		warmupCount = 0;
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.teleporter.bukkit;
+
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerSpawnChangeEvent;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+
+/**
+ * Discards the cached home location of a player whose spawn is changed. Kept apart from {@link HomeLocationCache}
+ * because {@link PlayerSpawnChangeEvent} is not present on every supported server version, and a listener class
+ * that references a missing event class has none of its handlers registered.
+ */
+final class PlayerSpawnChangeListener implements Listener
+{
+	private final OperationMetrics metrics;
+	private final Consumer<UUID> invalidate;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param metrics the operation metrics registry
+	 * @param invalidate the action that discards the cached home location of a player
+	 */
+	PlayerSpawnChangeListener(final OperationMetrics metrics, final Consumer<UUID> invalidate)
+	{
+		this.metrics = metrics;
+		this.invalidate = invalidate;
+	}
+
+
+	/**
+	 * Discard cached location when a player spawn is changed
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onPlayerSpawnChange(final PlayerSpawnChangeEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			invalidate.accept(event.getPlayer().getUniqueId());
+		}
+		finally
+		{
+			metrics.record(Operation.EVENT_PLAYER_SPAWN_CHANGE, System.nanoTime() - startTime, event.getPlayer());
+		}
+	}
+
+}
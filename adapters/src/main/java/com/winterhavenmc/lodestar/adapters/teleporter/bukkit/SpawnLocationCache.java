@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.teleporter.bukkit;
+
+import com.winterhavenmc.lodestar.metrics.Operation;
+import com.winterhavenmc.lodestar.util.TeleportCtx;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.SpawnChangeEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+
+/**
+ * Caches the resolved spawn location of every loaded world, and the overworld paired with each nether
+ * and end world, so that spawn resolution during a teleport is a map lookup instead of a scan of all
+ * server worlds. The cache is rebuilt whenever a world is loaded or unloaded, or a world spawn is changed.
+ */
+final class SpawnLocationCache implements Listener
+{
+	// pattern to strip nether and end suffixes from a world name
+	private static final Pattern WORLD_SUFFIX = Pattern.compile("(_nether$|_the_end$)");
+
+	private final TeleportCtx ctx;
+
+	// map of world uid to uid of paired overworld
+	private final Map<UUID, UUID> overworldMap = new HashMap<>();
+
+	// map of world uid to resolved spawn location
+	private final Map<UUID, Location> spawnMap = new HashMap<>();
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param ctx the teleport context
+	 */
+	SpawnLocationCache(final TeleportCtx ctx)
+	{
+		this.ctx = ctx;
+
+		// populate maps from currently loaded worlds
+		rebuild();
+
+		// register events in this class
+		ctx.plugin().getServer().getPluginManager().registerEvents(this, ctx.plugin());
+	}
+
+
+	/**
+	 * Get the spawn location for a world
+	 *
+	 * @param worldUid the uid of the world
+	 * @return {@link Optional} wrapped copy of the world spawn location, or an empty optional if none could be resolved
+	 */
+	Optional<Location> spawnLocation(final UUID worldUid)
+	{
+		if (worldUid == null)
+		{
+			return Optional.empty();
+		}
+
+		Location location = spawnMap.get(worldUid);
+
+		// fall back to world manager for a world the cache has not seen yet
+		if (location == null)
+		{
+			Optional<Location> resolved = ctx.messageBuilder().worlds().spawnLocation(worldUid);
+			resolved.ifPresent(spawn -> spawnMap.put(worldUid, spawn.clone()));
+			return resolved;
+		}
+
+		return Optional.of(location.clone());
+	}
+
+
+	/**
+	 * Get the spawn location of the overworld paired with a nether or end world. If no overworld could be paired
+	 * with the passed world, the spawn location of the passed world is returned.
+	 *
+	 * @param world the nether or end world
+	 * @return {@link Optional} wrapped copy of the paired overworld spawn location
+	 */
+	Optional<Location> overworldSpawnLocation(final World world)
+	{
+		if (world == null)
+		{
+			return Optional.empty();
+		}
+
+		return spawnLocation(overworldMap.getOrDefault(world.getUID(), world.getUID()));
+	}
+
+
+	/**
+	 * Rebuild the world pairing and spawn location maps from the worlds currently loaded on the server
+	 */
+	void rebuild()
+	{
+		overworldMap.clear();
+		spawnMap.clear();
+
+		final List<World> worlds = ctx.plugin().getServer().getWorlds();
+
+		// index normal environment worlds by name
+		final Map<String, World> normalWorlds = new HashMap<>();
+		for (World world : worlds)
+		{
+			if (World.Environment.NORMAL.equals(world.getEnvironment()))
+			{
+				normalWorlds.put(world.getName(), world);
+			}
+		}
+
+		// if only one normal world exists, it is paired with any unmatched nether or end world
+		final World onlyNormalWorld = (normalWorlds.size() == 1)
+				? normalWorlds.values().iterator().next()
+				: null;
+
+		for (World world : worlds)
+		{
+			ctx.messageBuilder().worlds().spawnLocation(world.getUID())
+					.ifPresent(location -> spawnMap.put(world.getUID(), location.clone()));
+
+			if (!World.Environment.NORMAL.equals(world.getEnvironment()))
+			{
+				// match normal world to passed world name minus nether/end suffix
+				World pairedWorld = normalWorlds.get(WORLD_SUFFIX.matcher(world.getName()).replaceFirst(""));
+
+				if (pairedWorld == null)
+				{
+					pairedWorld = onlyNormalWorld;
+				}
+
+				if (pairedWorld != null)
+				{
+					overworldMap.put(world.getUID(), pairedWorld.getUID());
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Rebuild cache when a world is loaded
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onWorldLoad(final WorldLoadEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			rebuild();
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_WORLD, System.nanoTime() - startTime, event.getWorld());
+		}
+	}
+
+
+	/**
+	 * Rebuild cache without the unloading world, which is still present in the server world list
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onWorldUnload(final WorldUnloadEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			final UUID worldUid = event.getWorld().getUID();
+
+			rebuild();
+			overworldMap.remove(worldUid);
+			overworldMap.values().removeIf(worldUid::equals);
+			spawnMap.remove(worldUid);
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_WORLD, System.nanoTime() - startTime, event.getWorld());
+		}
+	}
+
+
+	/**
+	 * Rebuild cache when a world spawn location is changed
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onSpawnChange(final SpawnChangeEvent event)
+	{
+		final long startTime = System.nanoTime();
+		try
+		{
+			rebuild();
+		}
+		finally
+		{
+			ctx.metrics().record(Operation.EVENT_WORLD, System.nanoTime() - startTime, event.getWorld());
+		}
+	}
+
+}
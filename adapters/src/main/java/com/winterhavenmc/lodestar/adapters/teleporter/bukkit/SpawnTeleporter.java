@@ -31,10 +31,11 @@ final class SpawnTeleporter extends AbstractTeleporter implements Teleporter
 	 * Class constructor
 	 *
 	 * @param teleportExecutor the teleport executor
+	 * @param spawnLocationCache the world spawn location cache
 	 */
-	SpawnTeleporter(final TeleportCtx ctx, final TeleportExecutor teleportExecutor)
+	SpawnTeleporter(final TeleportCtx ctx, final TeleportExecutor teleportExecutor, final SpawnLocationCache spawnLocationCache)
 	{
-		super(ctx, teleportExecutor);
+		super(ctx, teleportExecutor, spawnLocationCache);
 	}
 
 
@@ -17,6 +17,9 @@
 
 package com.winterhavenmc.lodestar.adapters.teleporter.bukkit;
 
+import com.winterhavenmc.lodestar.metrics.Counter;
+import com.winterhavenmc.lodestar.metrics.jfr.ChunkPreloadEvent;
+import com.winterhavenmc.lodestar.metrics.jfr.TeleportStageEvent;
 import com.winterhavenmc.lodestar.models.destination.*;
 import com.winterhavenmc.lodestar.util.TeleportCtx;
 import com.winterhavenmc.lodestar.ports.teleporter.TeleportHandler;
@@ -38,14 +41,19 @@ class TeleportExecutor
 {
 	private final TeleportCtx ctx;
 	private final TeleportHandler teleportHandler;
-	protected final WarmupMap warmupMap;
+	private final PlayerSessionTable sessions;
+	private final HomeLocationCache homeLocationCache;
 
 
-	TeleportExecutor(final TeleportHandler teleportHandler, final TeleportCtx ctx, final WarmupMap warmupMap)
+	TeleportExecutor(final TeleportHandler teleportHandler,
+	                 final TeleportCtx ctx,
+	                 final PlayerSessionTable sessions,
+	                 final HomeLocationCache homeLocationCache)
 	{
 		this.ctx = ctx;
 		this.teleportHandler = teleportHandler;
-		this.warmupMap = warmupMap;
+		this.sessions = sessions;
+		this.homeLocationCache = homeLocationCache;
 	}
 
 
@@ -58,11 +66,12 @@ class TeleportExecutor
 	 */
 	void execute(final Player player, final ValidDestination validDestination, final MessageId messageId)
 	{
+		final TeleportStageEvent event = new TeleportStageEvent();
+		event.begin();
+
 		Location location = switch (validDestination)
 		{
-			case HomeDestination ignored -> (player.getRespawnLocation() != null)
-					? player.getRespawnLocation()
-					: ctx.messageBuilder().worlds().spawnLocation(player.getWorld().getUID()).orElse(player.getWorld().getSpawnLocation());
+			case HomeDestination ignored -> getHomeOrFallback(player);
 			case SpawnDestination ignored -> ctx.messageBuilder().worlds().spawnLocation(player.getWorld().getUID()).orElse(player.getWorld().getSpawnLocation());
 			case StoredDestination stored -> stored.getLocation();
 			case TeleportDestination teleportDestination -> teleportDestination.getLocation();
@@ -91,15 +100,16 @@ class TeleportExecutor
 			removeFromInventoryOnUse(player, player.getInventory().getItemInMainHand());
 
 			// initiate delayed teleport for player to final validDestination
-			BukkitTask teleportTask = new DelayedTeleportTask(teleportHandler, ctx, player, validDestination,
+			BukkitTask teleportTask = new DelayedTeleportTask(teleportHandler, ctx, sessions, player, validDestination,
 					location, player.getInventory().getItemInMainHand().clone())
 					.runTaskLater(ctx.plugin(), SECONDS.toTicks(ctx.plugin().getConfig().getLong("teleport-warmup")));
 
 			// if configured warmup time is greater than zero, send warmup message
 			sendWarmupMessage(player, validDestination, messageId);
 
-			// insert player and taskId into warmup hashmap
-			warmupMap.startPlayerWarmUp(player, teleportTask.getTaskId());
+			// record player warmup in session table
+			sessions.startWarmup(player.getUniqueId(), teleportTask.getTaskId(), player.getInventory().getHeldItemSlot());
+			ctx.metrics().increment(Counter.TELEPORT_STARTED);
 
 			// load validDestination chunk if not already loaded
 			loadDestinationChunk(location);
@@ -107,14 +117,22 @@ class TeleportExecutor
 			// if log-use is enabled in config, write log entry
 			logUsage(player, validDestination);
 		}
+
+		event.end();
+		if (event.shouldCommit())
+		{
+			event.stage = "initiate";
+			event.player = player.getName();
+			event.destination = validDestination.displayName();
+			event.commit();
+		}
 	}
 
 
 	private Location getHomeOrFallback(final Player player)
 	{
-		return (player.getRespawnLocation() != null)
-				? player.getRespawnLocation()
-				: ctx.messageBuilder().worlds().spawnLocation(player.getWorld().getUID()).orElse(player.getWorld().getSpawnLocation());
+		return homeLocationCache.homeLocation(player)
+				.orElseGet(() -> ctx.messageBuilder().worlds().spawnLocation(player.getWorld().getUID()).orElse(player.getWorld().getSpawnLocation()));
 	}
 
 
@@ -151,10 +169,30 @@ class TeleportExecutor
 	 */
 	private void loadDestinationChunk(final Location location)
 	{
-		if (location != null && location.getWorld() != null && !location.getWorld().getChunkAt(location).isLoaded())
+		if (location == null || location.getWorld() == null)
+		{
+			return;
+		}
+
+		final ChunkPreloadEvent event = new ChunkPreloadEvent();
+		event.begin();
+
+		final boolean alreadyLoaded = location.getWorld().isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+		if (!alreadyLoaded)
 		{
 			location.getWorld().getChunkAt(location).load();
 		}
+
+		event.end();
+		if (event.shouldCommit())
+		{
+			event.source = "teleport";
+			event.world = location.getWorld().getName();
+			event.chunkX = location.getBlockX() >> 4;
+			event.chunkZ = location.getBlockZ() >> 4;
+			event.alreadyLoaded = alreadyLoaded;
+			event.commit();
+		}
 	}
 
 
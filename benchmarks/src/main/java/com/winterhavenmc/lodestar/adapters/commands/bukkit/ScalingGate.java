@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.adapters.commands.bukkit;
+
+import com.winterhavenmc.library.messagebuilder.MessageBuilder;
+import com.winterhavenmc.lodestar.adapters.datastore.sqlite.DatasetGenerator;
+import com.winterhavenmc.lodestar.adapters.datastore.sqlite.SqliteConnectionProvider;
+import com.winterhavenmc.lodestar.benchmarks.FakeWorlds;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+import com.winterhavenmc.lodestar.models.location.WorldInterner;
+import com.winterhavenmc.lodestar.models.location.WorldRegistry;
+import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
+import com.winterhavenmc.lodestar.ports.teleporter.TeleportHandler;
+import com.winterhavenmc.lodestar.util.CommandCtx;
+import com.winterhavenmc.lodestar.util.LodeStarUtility;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Scaling regression gate for the datastore and the commands that read it. Each check is measured against
+ * generated datasets of increasing size, and fails if its median latency at the largest size exceeds its ceiling,
+ * or if its latency grows faster with row count than its allowed exponent: 0 for constant time, 1 for linear.
+ * Exponents are not checked for medians under the noise floor, where timer resolution dominates.
+ * <p>
+ * Operations that read every destination name, and uncached gets, whose case-insensitive key comparison cannot
+ * use the key index, are linear today; their limits catch anything worse. Startup on a current schema and cached
+ * gets must stay sublinear.
+ * <p>
+ * Run by the {@code scaling-gate} profile of the benchmarks module, which fails the build if any check fails:
+ * <pre>
+ * mvn -P benchmarks,scaling-gate verify -Dscaling-gate.sizes=1000,100000 -Dscaling-gate.tolerance=1.0
+ * </pre>
+ */
+public final class ScalingGate
+{
+	private static final long NOISE_FLOOR_NANOS = 50_000;
+	private static final int SAMPLE_KEYS = 50;
+	private static final int CACHED_GET_ROUNDS = 20;
+	private static final int COMMAND_REPETITIONS = 10;
+	private static final int STARTUP_REPETITIONS = 5;
+	private static final int MIGRATION_REPETITIONS = 3;
+	private static final int WARMUP_REPETITIONS = 2;
+	private static final int PAGE_SIZE = 10;
+
+
+	enum Check
+	{
+		STARTUP("startup", 0.3, 500_000),
+		STARTUP_MIGRATION("startup with migration", 1.3, 20_000_000),
+		GET_CACHED("get (cached)", 0.3, 1_000),
+		GET_UNCACHED("get (uncached)", 1.3, 250_000),
+		LIST_PAGE("list page", 1.3, 3_000_000),
+		TAB_COMPLETE("tab completion", 1.3, 500_000);
+
+		private final String label;
+		private final double maxExponent;
+		private final long ceilingMicros;
+
+
+		Check(final String label, final double maxExponent, final long ceilingMicros)
+		{
+			this.label = label;
+			this.maxExponent = maxExponent;
+			this.ceilingMicros = ceilingMicros;
+		}
+	}
+
+
+	private final int[] sizes;
+	private final double tolerance;
+	private final Path workDirectory;
+	private final DatasetGenerator.Spec baseSpec;
+	private final Map<String, World> worlds = new HashMap<>();
+	private final Map<Check, long[]> medians = new EnumMap<>(Check.class);
+
+
+	private ScalingGate(final int[] sizes, final double tolerance, final DatasetGenerator.Spec baseSpec) throws IOException
+	{
+		this.sizes = sizes;
+		this.tolerance = tolerance;
+		this.baseSpec = baseSpec;
+		this.workDirectory = Files.createTempDirectory("lodestar-scaling-gate-");
+
+		for (int i = 0; i < baseSpec.worlds(); i++)
+		{
+			World world = FakeWorlds.world(DatasetGenerator.worldName(i), DatasetGenerator.worldUid(i));
+			worlds.put(world.getName(), world);
+		}
+		FakeWorlds.register(worlds.values().toArray(World[]::new));
+
+		for (Check check : Check.values())
+		{
+			medians.put(check, new long[sizes.length]);
+		}
+	}
+
+
+	/**
+	 * Run the gate. Arguments are {@code sizes} (a comma separated list of at least two row counts),
+	 * {@code tolerance} (a multiplier applied to every ceiling), and any dataset argument accepted by
+	 * {@link DatasetGenerator.Spec#parse(String[])} other than {@code rows}.
+	 */
+	public static void main(final String[] args) throws IOException, SQLException
+	{
+		int[] sizes = { 1_000, 100_000 };
+		double tolerance = 1.0;
+
+		for (String arg : args)
+		{
+			if (arg.startsWith("sizes="))
+			{
+				sizes = Arrays.stream(arg.substring("sizes=".length()).split(",")).mapToInt(Integer::parseInt).sorted().toArray();
+			}
+			else if (arg.startsWith("tolerance="))
+			{
+				tolerance = Double.parseDouble(arg.substring("tolerance=".length()));
+			}
+		}
+
+		if (sizes.length < 2)
+		{
+			throw new IllegalArgumentException("At least two sizes are required to measure scaling");
+		}
+
+		// datastore notices are not of interest here
+		Logger.getLogger("LodeStar").setLevel(Level.WARNING);
+
+		final ScalingGate gate = new ScalingGate(sizes, tolerance, DatasetGenerator.Spec.parse(args));
+		final boolean passed;
+		try
+		{
+			gate.measure();
+			passed = gate.report();
+		}
+		finally
+		{
+			gate.cleanUp();
+		}
+
+		System.exit(passed ? 0 : 1);
+	}
+
+
+	private void measure() throws IOException, SQLException
+	{
+		for (int i = 0; i < sizes.length; i++)
+		{
+			final int rows = sizes[i];
+			System.out.printf("Measuring %d rows%n", rows);
+
+			final DatasetGenerator.Spec spec = new DatasetGenerator.Spec(rows, baseSpec.worlds(), baseSpec.distribution(),
+					baseSpec.names(), 1, baseSpec.seed());
+			final DatasetGenerator.Spec legacySpec = new DatasetGenerator.Spec(rows, baseSpec.worlds(), baseSpec.distribution(),
+					baseSpec.names(), 0, baseSpec.seed());
+
+			final Path currentFolder = Files.createDirectories(workDirectory.resolve("current-" + rows));
+			final Path legacyFolder = Files.createDirectories(workDirectory.resolve("legacy-" + rows));
+			DatasetGenerator.generate(currentFolder.resolve("destinations.db"), spec);
+
+			medians.get(Check.STARTUP)[i] = measureStartup(plugin(currentFolder), rows);
+			medians.get(Check.STARTUP_MIGRATION)[i] = measureMigration(plugin(legacyFolder), legacySpec);
+
+			final JavaPlugin plugin = plugin(currentFolder);
+			final ConnectionProvider connectionProvider = new SqliteConnectionProvider(plugin, new OperationMetrics());
+			try
+			{
+				measureCommands(plugin, connectionProvider, i);
+			}
+			finally
+			{
+				connectionProvider.close();
+			}
+		}
+	}
+
+
+	private long measureStartup(final JavaPlugin plugin, final int rows)
+	{
+		final long[] samples = new long[STARTUP_REPETITIONS];
+		for (int i = -WARMUP_REPETITIONS; i < STARTUP_REPETITIONS; i++)
+		{
+			final long startTime = System.nanoTime();
+			final ConnectionProvider connectionProvider = new SqliteConnectionProvider(plugin, new OperationMetrics());
+			final long elapsed = System.nanoTime() - startTime;
+
+			verifyRowCount(connectionProvider, rows);
+			connectionProvider.close();
+			if (i >= 0)
+			{
+				samples[i] = elapsed;
+			}
+		}
+		return median(samples);
+	}
+
+
+	private long measureMigration(final JavaPlugin plugin, final DatasetGenerator.Spec legacySpec) throws IOException, SQLException
+	{
+		final Path file = plugin.getDataFolder().toPath().resolve("destinations.db");
+		final long[] samples = new long[MIGRATION_REPETITIONS];
+		for (int i = 0; i < MIGRATION_REPETITIONS; i++)
+		{
+			DatasetGenerator.generate(file, legacySpec);
+
+			final long startTime = System.nanoTime();
+			final ConnectionProvider connectionProvider = new SqliteConnectionProvider(plugin, new OperationMetrics());
+			samples[i] = System.nanoTime() - startTime;
+
+			verifyRowCount(connectionProvider, legacySpec.rows());
+			connectionProvider.close();
+		}
+		return median(samples);
+	}
+
+
+	private void measureCommands(final JavaPlugin plugin, final ConnectionProvider connectionProvider, final int sizeIndex)
+	{
+		final int rows = sizes[sizeIndex];
+		final SplittableRandom random = new SplittableRandom(baseSpec.seed());
+
+		final MessageBuilder messageBuilder = mock(MessageBuilder.class, RETURNS_DEEP_STUBS);
+		final LodeStarUtility lodeStarUtility = new LodeStarUtility(plugin, messageBuilder, connectionProvider);
+		final CommandCtx ctx = new CommandCtx(plugin, messageBuilder, connectionProvider, lodeStarUtility,
+				mock(TeleportHandler.class), new OperationMetrics());
+		final CommandSender sender = mock(CommandSender.class);
+		when(sender.hasPermission(anyString())).thenReturn(true);
+
+		// distinct keys, the first half to warm up, the second half measured
+		final List<String> keys = random.ints(0, rows).distinct().limit(Math.min(rows, SAMPLE_KEYS * 2L))
+				.mapToObj(row -> key(DatasetGenerator.displayName(baseSpec.names(), row)))
+				.toList();
+		final List<String> warmupKeys = keys.subList(0, keys.size() / 2);
+		final List<String> measuredKeys = keys.subList(keys.size() / 2, keys.size());
+
+		warmupKeys.forEach(key -> connectionProvider.destinations().get(key));
+		medians.get(Check.GET_UNCACHED)[sizeIndex] = medianOf(measuredKeys.size(),
+				i -> connectionProvider.destinations().get(measuredKeys.get(i)));
+		medians.get(Check.GET_CACHED)[sizeIndex] = medianOf(measuredKeys.size() * CACHED_GET_ROUNDS,
+				i -> connectionProvider.destinations().get(measuredKeys.get(i % measuredKeys.size())));
+
+		final ListSubcommand listSubcommand = new ListSubcommand(ctx);
+		final int pageCount = Math.max(1, (rows + PAGE_SIZE - 1) / PAGE_SIZE);
+		medians.get(Check.LIST_PAGE)[sizeIndex] = medianOf(COMMAND_REPETITIONS,
+				i -> listSubcommand.onCommand(sender, List.of(String.valueOf(1 + random.nextInt(pageCount)))));
+
+		final DeleteSubcommand deleteSubcommand = new DeleteSubcommand(ctx);
+		final Command command = mock(Command.class);
+		final String[] tabArgs = { "delete", DatasetGenerator.displayName(baseSpec.names(), 0).substring(0, 2) };
+		medians.get(Check.TAB_COMPLETE)[sizeIndex] = medianOf(COMMAND_REPETITIONS,
+				i -> deleteSubcommand.onTabComplete(sender, command, "lodestar", tabArgs));
+	}
+
+
+	private boolean report()
+	{
+		final StringBuilder header = new StringBuilder(String.format("%n%-24s", "check"));
+		for (int size : sizes)
+		{
+			header.append(String.format("%14s", size + " rows"));
+		}
+		System.out.println(header.append(String.format("%10s %8s %12s  %s", "exponent", "limit", "ceiling", "result")));
+
+		boolean passed = true;
+		for (Check check : Check.values())
+		{
+			final long[] values = medians.get(check);
+			final long largest = values[values.length - 1];
+			final double exponent = Math.log((double) Math.max(1, largest) / Math.max(1, values[0]))
+					/ Math.log((double) sizes[sizes.length - 1] / sizes[0]);
+			final long ceilingNanos = (long) (check.ceilingMicros * 1000 * tolerance);
+
+			final boolean overCeiling = largest > ceilingNanos;
+			final boolean overExponent = largest >= NOISE_FLOOR_NANOS && exponent > check.maxExponent;
+			passed &= !overCeiling && !overExponent;
+
+			final StringBuilder row = new StringBuilder(String.format("%-24s", check.label));
+			for (long value : values)
+			{
+				row.append(String.format("%14s", formatNanos(value)));
+			}
+			row.append(String.format("%10.2f %8.1f %12s  %s", exponent, check.maxExponent, formatNanos(ceilingNanos),
+					overCeiling ? "FAIL (ceiling)" : overExponent ? "FAIL (scaling)" : "ok"));
+			System.out.println(row);
+		}
+
+		System.out.println(passed ? "\nScaling gate passed" : "\nScaling gate FAILED");
+		return passed;
+	}
+
+
+	private void cleanUp() throws IOException
+	{
+		WorldRegistry.clear();
+		WorldInterner.clear();
+		try (var paths = Files.walk(workDirectory))
+		{
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList())
+			{
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+
+
+	private JavaPlugin plugin(final Path dataFolder)
+	{
+		final YamlConfiguration configuration = new YamlConfiguration();
+		configuration.set("locale", "en-US");
+		configuration.set("list-page-size", PAGE_SIZE);
+
+		final Server server = mock(Server.class);
+		when(server.getWorld(anyString())).thenAnswer(invocation -> worlds.get(invocation.<String>getArgument(0)));
+		when(server.getWorlds()).thenReturn(List.copyOf(worlds.values()));
+
+		final JavaPlugin plugin = mock(JavaPlugin.class);
+		when(plugin.getName()).thenReturn("LodeStar");
+		when(plugin.getLogger()).thenReturn(Logger.getLogger("LodeStar"));
+		when(plugin.getConfig()).thenReturn(configuration);
+		when(plugin.getDataFolder()).thenReturn(dataFolder.toFile());
+		when(plugin.getServer()).thenReturn(server);
+		return plugin;
+	}
+
+
+	private static void verifyRowCount(final ConnectionProvider connectionProvider, final int rows)
+	{
+		final int found = (connectionProvider.destinations() != null) ? connectionProvider.destinations().names().size() : -1;
+		if (found != rows)
+		{
+			throw new IllegalStateException("Expected " + rows + " destinations after startup, found " + found);
+		}
+	}
+
+
+	private static String key(final String displayName)
+	{
+		return ChatColor.stripColor(ChatColor.translateAlternateColorCodes('&', displayName)).replace(' ', '_');
+	}
+
+
+	private static long medianOf(final int repetitions, final java.util.function.IntConsumer operation)
+	{
+		for (int i = 0; i < WARMUP_REPETITIONS; i++)
+		{
+			operation.accept(i);
+		}
+
+		final long[] samples = new long[repetitions];
+		for (int i = 0; i < repetitions; i++)
+		{
+			final long startTime = System.nanoTime();
+			operation.accept(i);
+			samples[i] = System.nanoTime() - startTime;
+		}
+		return median(samples);
+	}
+
+
+	private static long median(final long[] samples)
+	{
+		final long[] sorted = samples.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+
+	private static String formatNanos(final long nanos)
+	{
+		if (nanos >= 1_000_000_000L) return String.format("%.2f s", nanos / 1e9);
+		else if (nanos >= 1_000_000L) return String.format("%.2f ms", nanos / 1e6);
+		else return String.format("%.1f µs", nanos / 1e3);
+	}
+
+}
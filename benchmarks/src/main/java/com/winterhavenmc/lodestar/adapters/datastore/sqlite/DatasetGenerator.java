@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.adapters.datastore.sqlite;
+
+import org.bukkit.ChatColor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+
+/**
+ * Generates synthetic {@code destinations.db} files for scaling measurements, with a configurable number of rows,
+ * distribution of rows across worlds, and shape of destination names. Files are written in the current schema,
+ * or in the original schema without world uids, to measure migration at startup.
+ * <p>
+ * Run from the benchmarks jar with {@code name=value} arguments described by {@link Spec#parse(String[])}:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.winterhavenmc.lodestar.adapters.datastore.sqlite.DatasetGenerator \
+ *     out=destinations.db rows=1000000 worlds=5 distribution=skewed names=mixed
+ * </pre>
+ */
+public final class DatasetGenerator
+{
+	private static final int INSERT_BATCH_SIZE = 10_000;
+	private static final String[] ENVIRONMENT_SUFFIXES = { "", "_nether", "_the_end" };
+	private static final String[] WORDS = { "North", "South", "Harbor", "Market", "Tower", "Gate", "Old", "Mill",
+			"Ridge", "Keep", "Lantern", "Quarry", "Bridge", "Hollow", "Spire", "Garden" };
+	private static final String[] UNICODE_WORDS = { "Café", "Ωmega", "東京", "Señor", "Straße", "Ærø", "Москва",
+			"Δelta", "Øst", "Zürich", "北海道", "Ñandú" };
+	private static final String COLOR_CODES = "0123456789abcdefklmnor";
+	private static final int LONG_NAME_LENGTH = 200;
+
+	// original destination table, before world uids were stored
+	private static final String SCHEMA_V0_TABLE = "CREATE TABLE IF NOT EXISTS destinations ("
+			+ "key VARCHAR UNIQUE NOT NULL, displayname VARCHAR, worldname VARCHAR(255) NOT NULL, "
+			+ "x DOUBLE, y DOUBLE, z DOUBLE, yaw FLOAT, pitch FLOAT)";
+
+	private static final String SCHEMA_V0_INSERT = "INSERT INTO destinations "
+			+ "(key, displayname, worldname, x, y, z, yaw, pitch) VALUES (?,?,?,?,?,?,?,?)";
+
+
+	/**
+	 * Shape of generated destination display names. Every name ends in the row number, so derived keys are unique.
+	 */
+	public enum NameShape
+	{
+		PLAIN, LONG, UNICODE, COLOR, MIXED
+	}
+
+
+	/**
+	 * Distribution of rows across worlds
+	 */
+	public enum WorldDistribution
+	{
+		/** each world is equally likely */
+		UNIFORM,
+		/** world {@code i} is chosen with weight {@code 1 / (i + 1)}, so most rows are in the first worlds */
+		SKEWED
+	}
+
+
+	/**
+	 * Dataset specification
+	 *
+	 * @param rows the number of destinations
+	 * @param worlds the number of worlds
+	 * @param distribution the distribution of destinations across worlds
+	 * @param names the shape of destination names
+	 * @param schemaVersion the schema version to write, 0 or 1
+	 * @param seed the random seed
+	 */
+	public record Spec(int rows, int worlds, WorldDistribution distribution, NameShape names, int schemaVersion, long seed)
+	{
+		public Spec
+		{
+			if (rows < 0) throw new IllegalArgumentException("rows must not be negative");
+			if (worlds < 1) throw new IllegalArgumentException("worlds must be at least 1");
+			if (schemaVersion != 0 && schemaVersion != 1) throw new IllegalArgumentException("schema must be 0 or 1");
+		}
+
+
+		/**
+		 * Parse a specification from {@code name=value} arguments, using default values for any not given.
+		 * Accepted names are {@code rows}, {@code worlds}, {@code distribution} ({@code uniform} or {@code skewed}),
+		 * {@code names} ({@code plain}, {@code long}, {@code unicode}, {@code color} or {@code mixed}),
+		 * {@code schema} and {@code seed}. Other arguments are ignored.
+		 *
+		 * @param args the command line arguments
+		 * @return the specification
+		 */
+		public static Spec parse(final String[] args)
+		{
+			int rows = 10_000;
+			int worlds = 3;
+			WorldDistribution distribution = WorldDistribution.UNIFORM;
+			NameShape names = NameShape.MIXED;
+			int schemaVersion = 1;
+			long seed = 1L;
+
+			for (String arg : args)
+			{
+				final int separator = arg.indexOf('=');
+				final String value = arg.substring(separator + 1);
+				switch ((separator < 0) ? arg : arg.substring(0, separator))
+				{
+					case "rows" -> rows = Integer.parseInt(value);
+					case "worlds" -> worlds = Integer.parseInt(value);
+					case "distribution" -> distribution = WorldDistribution.valueOf(value.toUpperCase());
+					case "names" -> names = NameShape.valueOf(value.toUpperCase());
+					case "schema" -> schemaVersion = Integer.parseInt(value);
+					case "seed" -> seed = Long.parseLong(value);
+					default -> { }
+				}
+			}
+
+			return new Spec(rows, worlds, distribution, names, schemaVersion, seed);
+		}
+	}
+
+
+	/**
+	 * Private class constructor to prevent instantiation
+	 */
+	private DatasetGenerator()
+	{
+		throw new AssertionError();
+	}
+
+
+	public static void main(final String[] args) throws IOException, SQLException
+	{
+		Path out = Path.of("destinations.db");
+		for (String arg : args)
+		{
+			if (arg.startsWith("out="))
+			{
+				out = Path.of(arg.substring("out=".length()));
+			}
+		}
+
+		final Spec spec = Spec.parse(args);
+		final long startTime = System.nanoTime();
+		generate(out, spec);
+		System.out.printf("Wrote %d destinations in %d worlds to %s (schema v%d) in %d ms%n", spec.rows(), spec.worlds(),
+				out, spec.schemaVersion(), (System.nanoTime() - startTime) / 1_000_000);
+	}
+
+
+	/**
+	 * Write a dataset to a new database file, replacing any existing file
+	 *
+	 * @param file the database file
+	 * @param spec the dataset specification
+	 * @throws IOException if an existing file could not be deleted
+	 * @throws SQLException if the database could not be written
+	 */
+	public static void generate(final Path file, final Spec spec) throws IOException, SQLException
+	{
+		Files.deleteIfExists(file);
+
+		final SplittableRandom random = new SplittableRandom(spec.seed());
+		final double[] worldWeights = worldWeights(spec);
+
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file))
+		{
+			try (Statement statement = connection.createStatement())
+			{
+				if (spec.schemaVersion() == 0)
+				{
+					statement.executeUpdate(SCHEMA_V0_TABLE);
+				}
+				else
+				{
+					statement.executeUpdate(SqliteQueries.getQuery("CreateDestinationTable"));
+					statement.executeUpdate("PRAGMA user_version = 1");
+				}
+			}
+
+			connection.setAutoCommit(false);
+			try (PreparedStatement preparedStatement = connection.prepareStatement((spec.schemaVersion() == 0)
+					? SCHEMA_V0_INSERT
+					: SqliteQueries.getQuery("InsertDestination")))
+			{
+				for (int row = 0; row < spec.rows(); row++)
+				{
+					bindRow(preparedStatement, spec, row, chooseWorld(random, worldWeights), random);
+					preparedStatement.addBatch();
+
+					if ((row + 1) % INSERT_BATCH_SIZE == 0)
+					{
+						preparedStatement.executeBatch();
+					}
+				}
+				preparedStatement.executeBatch();
+				connection.commit();
+			}
+		}
+	}
+
+
+	/**
+	 * Get the name of a generated world. Worlds cycle through normal, nether and end environments.
+	 *
+	 * @param index the world index
+	 * @return the world name
+	 */
+	public static String worldName(final int index)
+	{
+		final String base = (index < ENVIRONMENT_SUFFIXES.length) ? "world" : "world" + (index / ENVIRONMENT_SUFFIXES.length);
+		return base + ENVIRONMENT_SUFFIXES[index % ENVIRONMENT_SUFFIXES.length];
+	}
+
+
+	/**
+	 * Get the uid of a generated world, derived from its name
+	 *
+	 * @param index the world index
+	 * @return the world uid
+	 */
+	public static UUID worldUid(final int index)
+	{
+		return UUID.nameUUIDFromBytes(worldName(index).getBytes(StandardCharsets.UTF_8));
+	}
+
+
+	/**
+	 * Get the display name of a generated destination
+	 *
+	 * @param shape the name shape
+	 * @param row the row number
+	 * @return the display name, unique to the row
+	 */
+	public static String displayName(final NameShape shape, final int row)
+	{
+		return switch (shape)
+		{
+			case PLAIN -> WORDS[row % WORDS.length] + " " + row;
+			case LONG ->
+			{
+				final StringBuilder builder = new StringBuilder(LONG_NAME_LENGTH + 12);
+				for (int i = row; builder.length() < LONG_NAME_LENGTH; i = i * 31 + 7)
+				{
+					builder.append(WORDS[Math.floorMod(i, WORDS.length)]).append(' ');
+				}
+				yield builder.append(row).toString();
+			}
+			case UNICODE -> UNICODE_WORDS[row % UNICODE_WORDS.length] + " " + WORDS[(row / 7) % WORDS.length] + " " + row;
+			case COLOR -> "&" + COLOR_CODES.charAt(row % COLOR_CODES.length()) + WORDS[row % WORDS.length]
+					+ " &" + COLOR_CODES.charAt((row / 3) % COLOR_CODES.length()) + row;
+			case MIXED -> displayName(NameShape.values()[row % (NameShape.values().length - 1)], row);
+		};
+	}
+
+
+	private static void bindRow(final PreparedStatement preparedStatement,
+	                            final Spec spec,
+	                            final int row,
+	                            final int world,
+	                            final SplittableRandom random) throws SQLException
+	{
+		final String displayName = displayName(spec.names(), row);
+		final String key = ChatColor.stripColor(ChatColor.translateAlternateColorCodes('&', displayName)).replace(' ', '_');
+		final double x = random.nextDouble(-30_000_000, 30_000_000);
+		final double y = random.nextDouble(-64, 320);
+		final double z = random.nextDouble(-30_000_000, 30_000_000);
+		final float yaw = (float) random.nextDouble(-180, 180);
+		final float pitch = (float) random.nextDouble(-90, 90);
+
+		int index = 1;
+		preparedStatement.setString(index++, key);
+		preparedStatement.setString(index++, displayName);
+		preparedStatement.setString(index++, worldName(world));
+		if (spec.schemaVersion() == 1)
+		{
+			preparedStatement.setLong(index++, worldUid(world).getMostSignificantBits());
+			preparedStatement.setLong(index++, worldUid(world).getLeastSignificantBits());
+		}
+		preparedStatement.setDouble(index++, x);
+		preparedStatement.setDouble(index++, y);
+		preparedStatement.setDouble(index++, z);
+		preparedStatement.setFloat(index++, yaw);
+		preparedStatement.setFloat(index, pitch);
+	}
+
+
+	private static double[] worldWeights(final Spec spec)
+	{
+		final double[] cumulative = new double[spec.worlds()];
+		double total = 0;
+		for (int i = 0; i < spec.worlds(); i++)
+		{
+			total += (spec.distribution() == WorldDistribution.SKEWED) ? 1.0 / (i + 1) : 1.0;
+			cumulative[i] = total;
+		}
+		for (int i = 0; i < cumulative.length; i++)
+		{
+			cumulative[i] /= total;
+		}
+		return cumulative;
+	}
+
+
+	private static int chooseWorld(final SplittableRandom random, final double[] cumulativeWeights)
+	{
+		final double choice = random.nextDouble();
+		for (int i = 0; i < cumulativeWeights.length - 1; i++)
+		{
+			if (choice < cumulativeWeights[i])
+			{
+				return i;
+			}
+		}
+		return cumulativeWeights.length - 1;
+	}
+
+}
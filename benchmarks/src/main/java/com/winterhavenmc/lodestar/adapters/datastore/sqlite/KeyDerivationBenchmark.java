@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.adapters.datastore.sqlite;
+
+import com.winterhavenmc.library.messagebuilder.MessageBuilder;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+import com.winterhavenmc.lodestar.benchmarks.FixedDestinationRepository;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
+import com.winterhavenmc.lodestar.util.LodeStarUtility;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Measures the string handling performed on destination names for every command and repository lookup:
+ * key derivation in the utility and in the repository, each of which translates and strips legacy color codes,
+ * and the reserved name check. Run with {@code -prof gc} to compare {@code gc.alloc.rate.norm} of plain and
+ * color coded names. The message builder constants read by the reserved name check are stub-only mocks,
+ * which do not record invocations, so their cost is small but not zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyDerivationBenchmark
+{
+	@Param({ "Town Square", "&6Town &bSquare", "Spawn" })
+	public String destinationName;
+
+	private LodeStarUtility lodeStarUtility;
+	private SqliteDestinationRepository repository;
+	private List<String> args;
+
+
+	@Setup
+	public void setup()
+	{
+		Plugin plugin = mock(Plugin.class);
+		when(plugin.getName()).thenReturn("LodeStar");
+		when(plugin.getLogger()).thenReturn(Logger.getLogger("LodeStar"));
+		when(plugin.getConfig()).thenReturn(new YamlConfiguration());
+
+		MessageBuilder messageBuilder = mock(MessageBuilder.class, withSettings().stubOnly().defaultAnswer(RETURNS_DEEP_STUBS));
+		when(messageBuilder.constants().getString(LodeStarUtility.HOME_KEY)).thenReturn(Optional.of("Home"));
+		when(messageBuilder.constants().getString(LodeStarUtility.SPAWN_KEY)).thenReturn(Optional.of("Spawn"));
+
+		ConnectionProvider connectionProvider = mock(ConnectionProvider.class);
+		when(connectionProvider.destinations()).thenReturn(new FixedDestinationRepository(List.of()));
+
+		lodeStarUtility = new LodeStarUtility(plugin, messageBuilder, connectionProvider);
+		repository = new SqliteDestinationRepository(plugin, mock(Connection.class), mock(ConfigRepository.class), new OperationMetrics());
+		args = List.of(destinationName.split(" "));
+	}
+
+
+	/**
+	 * Key derivation from command arguments, as performed by the set, delete and give subcommands
+	 */
+	@Benchmark
+	public String utilityDeriveKey()
+	{
+		return lodeStarUtility.deriveKey(args);
+	}
+
+
+	/**
+	 * Key derivation performed by every repository get and delete
+	 */
+	@Benchmark
+	public String repositoryDeriveKey()
+	{
+		return repository.deriveKey(destinationName);
+	}
+
+
+	@Benchmark
+	public boolean isReservedName()
+	{
+		return lodeStarUtility.isRerservedName(destinationName);
+	}
+
+}
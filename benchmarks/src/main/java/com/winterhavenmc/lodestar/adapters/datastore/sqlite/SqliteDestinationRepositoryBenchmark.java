@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.adapters.datastore.sqlite;
+
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+import com.winterhavenmc.lodestar.benchmarks.FakeWorlds;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+import com.winterhavenmc.lodestar.models.destination.Destination;
+import com.winterhavenmc.lodestar.models.destination.StoredDestination;
+import com.winterhavenmc.lodestar.models.location.ValidLocation;
+import com.winterhavenmc.lodestar.models.location.WorldInterner;
+import com.winterhavenmc.lodestar.models.location.WorldRegistry;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Measures the SQLite destination repository against a temporary database file populated with the parameterized
+ * number of rows. Reads are measured both against the repository cache and against an empty cache, so that the
+ * cost of the underlying query is visible at each table size. Saves replace existing rows, and each delete is
+ * followed by restoring its row outside the measurement, so the table size is constant for the whole trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqliteDestinationRepositoryBenchmark
+{
+	private static final String WORLD_NAME = "world";
+	private static final UUID WORLD_UID = new UUID(0x4c6f646553746172L, 0x426e63684d61726bL);
+	private static final int BULK_SIZE = 100;
+	private static final int HOT_KEYS = 16;
+	private static final int INSERT_BATCH_SIZE = 10_000;
+
+	@Param({ "100", "10000", "1000000" })
+	public int rows;
+
+	private Path databaseFile;
+	private Connection connection;
+	private Plugin plugin;
+	private ConfigRepository configRepository;
+	private OperationMetrics metrics;
+	private SqliteDestinationRepository repository;
+	private StoredDestination[] destinations;
+
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException, SQLException
+	{
+		FakeWorlds.register(FakeWorlds.world(WORLD_NAME, WORLD_UID));
+
+		plugin = mock(Plugin.class);
+		when(plugin.getLogger()).thenReturn(Logger.getLogger("LodeStar"));
+		when(plugin.getConfig()).thenReturn(new YamlConfiguration());
+		configRepository = mock(ConfigRepository.class);
+		metrics = new OperationMetrics();
+
+		destinations = new StoredDestination[rows];
+		for (int i = 0; i < rows; i++)
+		{
+			destinations[i] = destination(i);
+		}
+
+		databaseFile = Files.createTempFile("lodestar-benchmark-", ".db");
+		connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile);
+		try (Statement statement = connection.createStatement())
+		{
+			statement.executeUpdate(SqliteQueries.getQuery("CreateDestinationTable"));
+			statement.executeUpdate("PRAGMA user_version = 1");
+		}
+		populate();
+
+		repository = new SqliteDestinationRepository(plugin, connection, configRepository, metrics);
+
+		// warm the cache with the keys read by the cached get benchmark
+		for (int i = 0; i < Math.min(HOT_KEYS, rows); i++)
+		{
+			repository.get(destinations[i].key());
+		}
+	}
+
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException, SQLException
+	{
+		connection.close();
+		Files.deleteIfExists(databaseFile);
+		WorldRegistry.clear();
+		WorldInterner.clear();
+	}
+
+
+	/**
+	 * Insert all rows in batched transactions, which is far faster than saving through the repository,
+	 * whose inserts each commit separately
+	 */
+	private void populate() throws SQLException
+	{
+		connection.setAutoCommit(false);
+		try (PreparedStatement preparedStatement = connection.prepareStatement(SqliteQueries.getQuery("InsertDestination")))
+		{
+			for (int i = 0; i < rows; i++)
+			{
+				bindDestination(preparedStatement, destinations[i]);
+				preparedStatement.addBatch();
+
+				if ((i + 1) % INSERT_BATCH_SIZE == 0)
+				{
+					preparedStatement.executeBatch();
+				}
+			}
+			preparedStatement.executeBatch();
+			connection.commit();
+		}
+		finally
+		{
+			connection.setAutoCommit(true);
+		}
+	}
+
+
+	private static void bindDestination(final PreparedStatement preparedStatement,
+	                                    final StoredDestination storedDestination) throws SQLException
+	{
+		preparedStatement.setString(1, storedDestination.key());
+		preparedStatement.setString(2, storedDestination.displayName());
+		preparedStatement.setString(3, storedDestination.location().worldName());
+		preparedStatement.setLong(4, storedDestination.location().worldUid().getMostSignificantBits());
+		preparedStatement.setLong(5, storedDestination.location().worldUid().getLeastSignificantBits());
+		preparedStatement.setDouble(6, storedDestination.location().x());
+		preparedStatement.setDouble(7, storedDestination.location().y());
+		preparedStatement.setDouble(8, storedDestination.location().z());
+		preparedStatement.setFloat(9, storedDestination.location().yaw());
+		preparedStatement.setFloat(10, storedDestination.location().pitch());
+	}
+
+
+	private static StoredDestination destination(final int index)
+	{
+		return new StoredDestination("Destination_" + index,
+				new ValidLocation(WORLD_NAME, WORLD_UID, (index % 2000) - 1000, 64, (index / 2000) - 1000, 0, 0));
+	}
+
+
+	private StoredDestination randomDestination()
+	{
+		return destinations[ThreadLocalRandom.current().nextInt(rows)];
+	}
+
+
+	@Benchmark
+	public Destination getCached()
+	{
+		return repository.get(destinations[ThreadLocalRandom.current().nextInt(Math.min(HOT_KEYS, rows))].key());
+	}
+
+
+	/**
+	 * Get through a new repository with an empty cache, so that every call executes the select query.
+	 * Constructing the repository only assigns fields, which is negligible next to the query.
+	 */
+	@Benchmark
+	public Destination getUncached()
+	{
+		return new SqliteDestinationRepository(plugin, connection, configRepository, metrics).get(randomDestination().key());
+	}
+
+
+	@Benchmark
+	public int saveSingle()
+	{
+		return repository.save(List.of(randomDestination()));
+	}
+
+
+	@Benchmark
+	public int saveBulk()
+	{
+		final int start = ThreadLocalRandom.current().nextInt(rows);
+		final List<StoredDestination> batch = new ArrayList<>(BULK_SIZE);
+		for (int i = 0; i < BULK_SIZE; i++)
+		{
+			batch.add(destinations[(start + i) % rows]);
+		}
+		return repository.save(batch);
+	}
+
+
+	@Benchmark
+	public List<String> names()
+	{
+		return repository.names();
+	}
+
+
+	@Benchmark
+	public Destination delete(final Deletion deletion)
+	{
+		return repository.delete(deletion.destination.key());
+	}
+
+
+	/**
+	 * Chooses the destination deleted by each invocation of {@link #delete(Deletion)}, and restores its row
+	 * after the invocation. Invocation level fixtures are only suitable because a delete commits a write
+	 * transaction, which takes far longer than the fixture overhead.
+	 */
+	@State(Scope.Thread)
+	public static class Deletion
+	{
+		StoredDestination destination;
+
+
+		@Setup(Level.Invocation)
+		public void choose(final SqliteDestinationRepositoryBenchmark benchmark)
+		{
+			destination = benchmark.randomDestination();
+		}
+
+
+		@TearDown(Level.Invocation)
+		public void restore(final SqliteDestinationRepositoryBenchmark benchmark) throws SQLException
+		{
+			try (PreparedStatement preparedStatement = benchmark.connection.prepareStatement(SqliteQueries.getQuery("InsertDestination")))
+			{
+				bindDestination(preparedStatement, destination);
+				preparedStatement.executeUpdate();
+			}
+		}
+	}
+
+}
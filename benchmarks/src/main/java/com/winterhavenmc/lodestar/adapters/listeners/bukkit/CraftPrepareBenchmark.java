@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.adapters.listeners.bukkit;
+
+import com.winterhavenmc.lodestar.benchmarks.FakeItems;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+
+/**
+ * Compares the crafting matrix scan performed for every {@code PrepareItemCraftEvent}, before and after the
+ * item meta fast reject and early exit were added. The item test stands in for the message builder item test,
+ * which copies the item meta of every item it is passed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CraftPrepareBenchmark
+{
+	private static final NamespacedKey ITEM_KEY = NamespacedKey.fromString("messagebuilder:item_key");
+
+	@Param({ "PLAIN", "LODESTAR_FIRST", "LODESTAR_LAST" })
+	public String matrix;
+
+	private List<ItemStack> inventory;
+	private final Predicate<ItemStack> isItem = CraftPrepareBenchmark::isItem;
+
+
+	@Setup
+	public void setup()
+	{
+		ItemStack[] items = new ItemStack[10];
+		Arrays.fill(items, 1, 10, FakeItems.plainItem(Material.OAK_PLANKS));
+		items[2] = null;
+		items[5] = null;
+
+		ItemStack lodeStar = FakeItems.itemWithData(Material.NETHER_STAR, ITEM_KEY, "LODESTAR");
+		switch (matrix)
+		{
+			case "LODESTAR_FIRST" -> items[1] = lodeStar;
+			case "LODESTAR_LAST" -> items[9] = lodeStar;
+			default -> { }
+		}
+
+		inventory = Arrays.asList(items);
+	}
+
+
+	/**
+	 * Item test that reads the item meta, as the message builder item test does
+	 */
+	private static boolean isItem(final ItemStack itemStack)
+	{
+		if (itemStack == null)
+		{
+			return false;
+		}
+
+		ItemMeta itemMeta = itemStack.getItemMeta();
+		return itemMeta != null && itemMeta.getPersistentDataContainer().has(ITEM_KEY, PersistentDataType.STRING);
+	}
+
+
+	/**
+	 * Matrix scan as implemented before the fast reject was added, retained for comparison
+	 */
+	@Benchmark
+	public boolean legacyScan()
+	{
+		boolean result = false;
+		for (ItemStack itemStack : inventory)
+		{
+			if (isItem.test(itemStack))
+			{
+				result = true;
+			}
+		}
+		return result;
+	}
+
+
+	@Benchmark
+	public boolean containsItem()
+	{
+		return BukkitPlayerEventListener.containsItem(inventory, isItem);
+	}
+
+}
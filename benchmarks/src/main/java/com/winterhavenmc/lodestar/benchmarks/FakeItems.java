@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.benchmarks;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Lightweight fakes for {@link ItemStack} and {@link ItemMeta} that run without a server. Like the server
+ * implementation, each call to {@link ItemStack#getItemMeta()} returns a new copy of the item meta, or a new
+ * empty item meta for an item without meta, so allocation measurements reflect the cost of repeated meta reads.
+ */
+public final class FakeItems
+{
+	/**
+	 * Private class constructor to prevent instantiation
+	 */
+	private FakeItems()
+	{
+		throw new AssertionError();
+	}
+
+
+	/**
+	 * Create an item whose persistent data container holds a single string value
+	 *
+	 * @param material the item material
+	 * @param key the persistent data key
+	 * @param value the persistent data value
+	 * @return a fake item stack with item meta
+	 */
+	public static ItemStack itemWithData(final Material material, final NamespacedKey key, final String value)
+	{
+		Map<NamespacedKey, Object> data = new HashMap<>();
+		data.put(key, value);
+		return new FakeItemStack(material, itemMeta(data));
+	}
+
+
+	/**
+	 * Create an item without item meta
+	 *
+	 * @param material the item material
+	 * @return a fake item stack without item meta
+	 */
+	public static ItemStack plainItem(final Material material)
+	{
+		return new FakeItemStack(material, null);
+	}
+
+
+	/**
+	 * Create a fake item meta backed by a map of persistent data
+	 *
+	 * @param data the persistent data of the item meta
+	 * @return a fake item meta
+	 */
+	public static ItemMeta itemMeta(final Map<NamespacedKey, Object> data)
+	{
+		final PersistentDataContainer container = persistentDataContainer(data);
+
+		return (ItemMeta) Proxy.newProxyInstance(ItemMeta.class.getClassLoader(), new Class<?>[] { ItemMeta.class },
+				(proxy, method, args) -> switch (method.getName())
+				{
+					case "getPersistentDataContainer" -> container;
+					case "clone" -> itemMeta(new HashMap<>(data));
+					case "hasDisplayName", "hasLore", "hasCustomModelData", "hasEnchants" -> false;
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> "FakeItemMeta" + data;
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+
+	private static PersistentDataContainer persistentDataContainer(final Map<NamespacedKey, Object> data)
+	{
+		return (PersistentDataContainer) Proxy.newProxyInstance(PersistentDataContainer.class.getClassLoader(),
+				new Class<?>[] { PersistentDataContainer.class },
+				(proxy, method, args) -> switch (method.getName())
+				{
+					case "has" -> data.containsKey(args[0]);
+					case "get" -> data.get(args[0]);
+					case "getOrDefault" -> data.getOrDefault(args[0], args[2]);
+					case "getKeys" -> Set.copyOf(data.keySet());
+					case "isEmpty" -> data.isEmpty();
+					case "set" -> data.put((NamespacedKey) args[0], args[2]);
+					case "remove" -> data.remove(args[0]);
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> "FakePersistentDataContainer" + data;
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+
+	/**
+	 * Item stack that returns a copy of its fake item meta, in place of the server item factory
+	 */
+	private static final class FakeItemStack extends ItemStack
+	{
+		private final ItemMeta itemMeta;
+
+
+		private FakeItemStack(final Material material, final ItemMeta itemMeta)
+		{
+			super(material);
+			this.itemMeta = itemMeta;
+		}
+
+
+		@Override
+		public boolean hasItemMeta()
+		{
+			return itemMeta != null;
+		}
+
+
+		@Override
+		public ItemMeta getItemMeta()
+		{
+			return (itemMeta != null) ? itemMeta.clone() : itemMeta(new HashMap<>());
+		}
+	}
+
+}
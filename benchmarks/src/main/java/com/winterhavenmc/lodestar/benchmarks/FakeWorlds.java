@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.benchmarks;
+
+import com.winterhavenmc.lodestar.models.location.WorldRegistry;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.UUID;
+
+
+/**
+ * Lightweight fake for {@link World} that runs without a server. Registering fake worlds with the
+ * {@link WorldRegistry} stops the registry falling back to server lookups, so location validation and
+ * destination retrieval resolve worlds as they would on a running server.
+ */
+public final class FakeWorlds
+{
+	/**
+	 * Private class constructor to prevent instantiation
+	 */
+	private FakeWorlds()
+	{
+		throw new AssertionError();
+	}
+
+
+	/**
+	 * Create a fake world
+	 *
+	 * @param name the world name
+	 * @param uid the world uid
+	 * @return a fake world answering name, uid and environment queries, in which every chunk is loaded
+	 * and effects are discarded
+	 */
+	public static World world(final String name, final UUID uid)
+	{
+		return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[] { World.class },
+				(proxy, method, args) -> switch (method.getName())
+				{
+					case "getName" -> name;
+					case "getUID" -> uid;
+					case "getEnvironment" -> World.Environment.NORMAL;
+					case "getSpawnLocation" -> new Location((World) proxy, 0, 64, 0);
+					case "isChunkLoaded", "addPluginChunkTicket", "removePluginChunkTicket" -> true;
+					case "playEffect", "spawnParticle" -> null;
+					case "hashCode" -> uid.hashCode();
+					case "equals" -> proxy == args[0];
+					case "toString" -> "FakeWorld{" + name + "}";
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+
+	/**
+	 * Replace the contents of the world registry with the given fake worlds
+	 *
+	 * @param worlds the worlds to register as loaded
+	 */
+	public static void register(final World... worlds)
+	{
+		WorldRegistry.refresh(List.of(worlds));
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.benchmarks;
+
+import com.winterhavenmc.lodestar.models.destination.Destination;
+import com.winterhavenmc.lodestar.models.destination.InvalidDestination;
+import com.winterhavenmc.lodestar.models.destination.StoredDestination;
+import com.winterhavenmc.lodestar.ports.datastore.DestinationRepository;
+
+import java.util.*;
+
+
+/**
+ * In-memory destination repository that stands in for a warm destination cache
+ */
+public final class FixedDestinationRepository implements DestinationRepository
+{
+	private final Map<String, StoredDestination> destinations = new HashMap<>();
+
+
+	public FixedDestinationRepository(final Collection<StoredDestination> storedDestinations)
+	{
+		save(storedDestinations);
+	}
+
+
+	@Override
+	public Destination get(final String destinationName)
+	{
+		StoredDestination storedDestination = destinations.get(destinationName);
+		return (storedDestination != null)
+				? storedDestination
+				: new InvalidDestination(String.valueOf(destinationName), "Destination not found.");
+	}
+
+
+	@Override
+	public int save(final Collection<StoredDestination> storedDestinations)
+	{
+		storedDestinations.forEach(storedDestination -> destinations.put(storedDestination.key(), storedDestination));
+		return storedDestinations.size();
+	}
+
+
+	@Override
+	public List<String> names()
+	{
+		return new ArrayList<>(destinations.keySet());
+	}
+
+
+	@Override
+	public int count()
+	{
+		return destinations.size();
+	}
+
+
+	@Override
+	public Destination delete(final String destinationName)
+	{
+		StoredDestination storedDestination = destinations.remove(destinationName);
+		return (storedDestination != null)
+				? storedDestination
+				: new InvalidDestination(String.valueOf(destinationName), "Destination not found.");
+	}
+
+}
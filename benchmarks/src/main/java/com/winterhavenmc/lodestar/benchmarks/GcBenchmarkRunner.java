@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Runs benchmarks with the GC profiler attached, so that every result is reported with its allocation rate
+ * per operation ({@code gc.alloc.rate.norm}). Arguments are benchmark include patterns; with no arguments,
+ * the item decoding and key derivation benchmarks are run:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.winterhavenmc.lodestar.benchmarks.GcBenchmarkRunner [pattern...]
+ * </pre>
+ */
+public final class GcBenchmarkRunner
+{
+	private static final String[] DEFAULT_INCLUDES = { "ItemDecodingBenchmark", "KeyDerivationBenchmark" };
+
+
+	/**
+	 * Private class constructor to prevent instantiation
+	 */
+	private GcBenchmarkRunner()
+	{
+		throw new AssertionError();
+	}
+
+
+	public static void main(final String[] args) throws RunnerException
+	{
+		final ChainedOptionsBuilder options = new OptionsBuilder().addProfiler(GCProfiler.class);
+
+		for (String include : (args.length > 0) ? args : DEFAULT_INCLUDES)
+		{
+			options.include(include);
+		}
+
+		new Runner(options.build()).run();
+	}
+
+}
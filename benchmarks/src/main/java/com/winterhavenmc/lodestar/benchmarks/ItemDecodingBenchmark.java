@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.benchmarks;
+
+import com.winterhavenmc.library.messagebuilder.MessageBuilder;
+import com.winterhavenmc.lodestar.models.destination.Destination;
+import com.winterhavenmc.lodestar.models.destination.StoredDestination;
+import com.winterhavenmc.lodestar.models.location.ValidLocation;
+import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
+import com.winterhavenmc.lodestar.util.LodeStarUtility;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Measures decoding of the destination stored in a LodeStar item, as performed on every player interact event.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} of {@link #legacyGetDestinationKey()},
+ * which reads the item meta three times, with {@link #getDestinationKey()}, which reads it once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemDecodingBenchmark
+{
+	private static final NamespacedKey DESTINATION_KEY = NamespacedKey.fromString("lodestar:destination");
+
+	private LodeStarUtility lodeStarUtility;
+	private ItemStack lodeStarItem;
+	private ItemStack plainItem;
+
+
+	@Setup
+	public void setup()
+	{
+		Plugin plugin = mock(Plugin.class);
+		when(plugin.getName()).thenReturn("LodeStar");
+
+		MessageBuilder messageBuilder = mock(MessageBuilder.class, RETURNS_DEEP_STUBS);
+		when(messageBuilder.constants().getString(LodeStarUtility.HOME_KEY)).thenReturn(Optional.of("Home"));
+		when(messageBuilder.constants().getString(LodeStarUtility.SPAWN_KEY)).thenReturn(Optional.of("Spawn"));
+
+		StoredDestination destination = new StoredDestination("Town_Square",
+				new ValidLocation("world", UUID.randomUUID(), 100, 64, -200, 0, 0));
+
+		ConnectionProvider connectionProvider = mock(ConnectionProvider.class);
+		when(connectionProvider.destinations()).thenReturn(new FixedDestinationRepository(List.of(destination)));
+
+		lodeStarUtility = new LodeStarUtility(plugin, messageBuilder, connectionProvider);
+		lodeStarItem = FakeItems.itemWithData(Material.NETHER_STAR, DESTINATION_KEY, destination.key());
+		plainItem = FakeItems.plainItem(Material.STONE);
+	}
+
+
+	/**
+	 * Destination key decoding as implemented before the single-read change, retained for comparison
+	 */
+	@Benchmark
+	@SuppressWarnings("DataFlowIssue")
+	public String legacyGetDestinationKey()
+	{
+		if (lodeStarItem != null
+				&& lodeStarItem.hasItemMeta()
+				&& lodeStarItem.getItemMeta() != null
+				&& lodeStarItem.getItemMeta().getPersistentDataContainer().has(DESTINATION_KEY, PersistentDataType.STRING))
+		{
+			return lodeStarItem.getItemMeta().getPersistentDataContainer().get(DESTINATION_KEY, PersistentDataType.STRING);
+		}
+		return null;
+	}
+
+
+	@Benchmark
+	public String getDestinationKey()
+	{
+		return lodeStarUtility.getDestinationKey(lodeStarItem);
+	}
+
+
+	@Benchmark
+	public String getDestinationKeyPlainItem()
+	{
+		return lodeStarUtility.getDestinationKey(plainItem);
+	}
+
+
+	@Benchmark
+	public Destination getDestination()
+	{
+		return lodeStarUtility.getDestination(lodeStarItem);
+	}
+
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.simulation;
+
+import com.winterhavenmc.library.messagebuilder.MessageBuilder;
+import com.winterhavenmc.lodestar.adapters.listeners.bukkit.BukkitPlayerEventListener;
+import com.winterhavenmc.lodestar.adapters.listeners.bukkit.BukkitPlayerInteractEventListener;
+import com.winterhavenmc.lodestar.adapters.teleporter.bukkit.BukkitTeleportHandler;
+import com.winterhavenmc.lodestar.benchmarks.FakeItems;
+import com.winterhavenmc.lodestar.benchmarks.FixedDestinationRepository;
+import com.winterhavenmc.lodestar.metrics.Counter;
+import com.winterhavenmc.lodestar.metrics.Gauge;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+import com.winterhavenmc.lodestar.models.destination.StoredDestination;
+import com.winterhavenmc.lodestar.models.location.ValidLocation;
+import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
+import com.winterhavenmc.lodestar.ports.datastore.DestinationRepository;
+import com.winterhavenmc.lodestar.ports.teleporter.TeleportHandler;
+import com.winterhavenmc.lodestar.util.LodeStarUtility;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.damage.DamageSource;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Headless load simulation of the teleport engine. For each configured player count, virtual players fire
+ * interact, move and damage events at scripted rates through the LodeStar listeners, while a simulated scheduler
+ * is advanced tick by tick to run warmup, particle and cooldown tasks. For every tick, the CPU time and allocation
+ * of event handling and scheduled tasks are measured, and the warmup and cooldown map sizes are sampled.
+ * <p>
+ * Events for a tick are constructed before measurement starts. The message builder is a stub, whose calls are
+ * included in the measurement but do no work. Run from the benchmarks jar, with optional {@code name=value}
+ * arguments described by {@link SimulationScript#parse(String[])}:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.winterhavenmc.lodestar.simulation.LoadSimulation players=10,100,1000
+ * </pre>
+ */
+public final class LoadSimulation
+{
+	private static final int DESTINATION_COUNT = 64;
+	private static final double WORLD_RADIUS = 5000;
+	private static final double WALK_STEP = 0.2;
+
+	private final SimulationScript script;
+	private final int playerCount;
+	private final SplittableRandom random;
+	private final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+
+	LoadSimulation(final SimulationScript script, final int playerCount)
+	{
+		this.script = script;
+		this.playerCount = playerCount;
+		this.random = new SplittableRandom(script.seed() * 31 + playerCount);
+	}
+
+
+	public static void main(final String[] args)
+	{
+		final SimulationScript script = SimulationScript.parse(args);
+
+		System.out.printf("LodeStar load simulation: %d warmup ticks, %d measured ticks, seed %d%n",
+				script.warmupTicks(), script.ticks(), script.seed());
+		System.out.printf("per player per second: %.2f interacts, %.1f moves (%.0f%% walking), %.2f damage%n%n",
+				script.interactsPerSecond(), script.movesPerSecond(), script.walkingFraction() * 100, script.damagePerSecond());
+		System.out.print(SimulationResult.header());
+
+		for (int playerCount : script.playerCounts())
+		{
+			System.out.print(new LoadSimulation(script, playerCount).run().row());
+		}
+	}
+
+
+	/**
+	 * Run the simulation for the configured number of players
+	 *
+	 * @return the measurements of the run
+	 */
+	SimulationResult run()
+	{
+		final SimulatedServer server = SimulatedServer.get();
+		server.reset();
+
+		final JavaPlugin plugin = mock(JavaPlugin.class, withSettings().stubOnly());
+		when(plugin.getName()).thenReturn("LodeStar");
+		when(plugin.getLogger()).thenReturn(Logger.getLogger("LodeStar"));
+		when(plugin.getConfig()).thenReturn(configuration());
+		when(plugin.getServer()).thenReturn(server.server());
+
+		final MessageBuilder messageBuilder = StubAnswer.stub(MessageBuilder.class);
+		final List<StoredDestination> destinations = destinations(server.world());
+		final ConnectionProvider connectionProvider = connectionProvider(new FixedDestinationRepository(destinations));
+		final OperationMetrics metrics = new OperationMetrics();
+		final LodeStarUtility lodeStarUtility = new LodeStarUtility(plugin, messageBuilder, connectionProvider);
+		final TeleportHandler teleportHandler = new BukkitTeleportHandler(plugin, messageBuilder, connectionProvider, lodeStarUtility, metrics);
+		final BukkitPlayerEventListener playerEventListener = new BukkitPlayerEventListener(plugin, messageBuilder, connectionProvider, lodeStarUtility, teleportHandler, metrics);
+		final BukkitPlayerInteractEventListener interactEventListener = new BukkitPlayerInteractEventListener(plugin, messageBuilder, teleportHandler, metrics);
+
+		final List<SimulatedPlayer> players = players(server.world(), destinations);
+		final DamageSource damageSource = mock(DamageSource.class, withSettings().stubOnly());
+		final List<Runnable> dispatches = new ArrayList<>();
+
+		final long[] cpuNanos = new long[script.ticks()];
+		final long[] allocatedBytes = new long[script.ticks()];
+		final int[] warmupSizes = new int[script.ticks()];
+		final int[] cooldownSizes = new int[script.ticks()];
+		long started = 0;
+		long completed = 0;
+		long cancelled = 0;
+
+		for (int tick = -script.warmupTicks(); tick < script.ticks(); tick++)
+		{
+			if (tick == 0)
+			{
+				started = metrics.count(Counter.TELEPORT_STARTED);
+				completed = metrics.count(Counter.TELEPORT_COMPLETED);
+				cancelled = cancellations(metrics);
+			}
+
+			// construct this tick's events before measuring
+			dispatches.clear();
+			for (SimulatedPlayer simulatedPlayer : players)
+			{
+				final Player player = simulatedPlayer.player();
+
+				if (fires(script.movesPerSecond()))
+				{
+					final PlayerMoveEvent event = moveEvent(simulatedPlayer);
+					dispatches.add(() -> playerEventListener.onPlayerMovement(event));
+				}
+
+				if (fires(script.damagePerSecond()))
+				{
+					final EntityDamageEvent event = new EntityDamageEvent(player, EntityDamageEvent.DamageCause.ENTITY_ATTACK, damageSource, 1.0);
+					dispatches.add(() -> playerEventListener.onEntityDamage(event));
+				}
+
+				if (fires(script.interactsPerSecond()))
+				{
+					final PlayerInteractEvent event = new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+							player.getInventory().getItemInMainHand(), null, BlockFace.SELF);
+					dispatches.add(() -> interactEventListener.onPlayerInteract(event));
+				}
+			}
+
+			final long cpuStart = threadBean.getCurrentThreadCpuTime();
+			final long allocationStart = threadBean.getCurrentThreadAllocatedBytes();
+
+			dispatches.forEach(Runnable::run);
+			server.scheduler().tick();
+
+			final long cpu = threadBean.getCurrentThreadCpuTime() - cpuStart;
+			final long allocation = threadBean.getCurrentThreadAllocatedBytes() - allocationStart;
+
+			if (tick >= 0)
+			{
+				metrics.sampleGauges();
+				cpuNanos[tick] = cpu;
+				allocatedBytes[tick] = allocation;
+				warmupSizes[tick] = (int) metrics.gauge(Gauge.WARMUP_PLAYERS);
+				cooldownSizes[tick] = (int) metrics.gauge(Gauge.COOLDOWN_PLAYERS);
+			}
+		}
+
+		return SimulationResult.of(playerCount, cpuNanos, allocatedBytes, warmupSizes, cooldownSizes,
+				metrics.count(Counter.TELEPORT_STARTED) - started,
+				metrics.count(Counter.TELEPORT_COMPLETED) - completed,
+				cancellations(metrics) - cancelled);
+	}
+
+
+	/**
+	 * Create the plugin configuration: the shipped defaults for settings on the measured paths, except that
+	 * the minimum distance is zero, so that players may teleport from any position, and items are never
+	 * removed, so that each player can teleport repeatedly with its single item
+	 */
+	private static YamlConfiguration configuration()
+	{
+		final YamlConfiguration configuration = new YamlConfiguration();
+		configuration.set("teleport-warmup", 5);
+		configuration.set("teleport-cooldown", 60);
+		configuration.set("minimum-distance", 0);
+		configuration.set("remove-from-inventory", "never");
+		configuration.set("cancel-on-movement", true);
+		configuration.set("cancel-on-damage", true);
+		configuration.set("cancel-on-interaction", true);
+		configuration.set("particle-effects", true);
+		configuration.set("prefetch-destination", false);
+		configuration.set("shift-click", false);
+		configuration.set("left-click", false);
+		configuration.set("log-use", false);
+		configuration.set("lightning", false);
+		return configuration;
+	}
+
+
+	private static ConnectionProvider connectionProvider(final DestinationRepository destinationRepository)
+	{
+		return new ConnectionProvider()
+		{
+			@Override
+			public ConnectionProvider connect()
+			{
+				return this;
+			}
+
+
+			@Override
+			public void close()
+			{
+			}
+
+
+			@Override
+			public DestinationRepository destinations()
+			{
+				return destinationRepository;
+			}
+		};
+	}
+
+
+	private List<StoredDestination> destinations(final World world)
+	{
+		final List<StoredDestination> destinations = new ArrayList<>(DESTINATION_COUNT);
+		for (int i = 0; i < DESTINATION_COUNT; i++)
+		{
+			destinations.add(new StoredDestination("Destination " + i, new ValidLocation(world.getName(), world.getUID(),
+					random.nextDouble(-WORLD_RADIUS, WORLD_RADIUS), 64, random.nextDouble(-WORLD_RADIUS, WORLD_RADIUS), 0, 0)));
+		}
+		return destinations;
+	}
+
+
+	private List<SimulatedPlayer> players(final World world, final List<StoredDestination> destinations)
+	{
+		final NamespacedKey destinationKey = NamespacedKey.fromString("lodestar:destination");
+		final List<SimulatedPlayer> players = new ArrayList<>(playerCount);
+		for (int i = 0; i < playerCount; i++)
+		{
+			final Location location = new Location(world,
+					random.nextDouble(-WORLD_RADIUS, WORLD_RADIUS), 64, random.nextDouble(-WORLD_RADIUS, WORLD_RADIUS));
+			final String key = destinations.get(i % destinations.size()).key();
+			players.add(new SimulatedPlayer(i, location, FakeItems.itemWithData(Material.NETHER_STAR, destinationKey, key)));
+		}
+		return players;
+	}
+
+
+	/**
+	 * Create a move event for a player, moving the player a step if it is walking, or only turning its head if not
+	 */
+	private PlayerMoveEvent moveEvent(final SimulatedPlayer simulatedPlayer)
+	{
+		final Location from = simulatedPlayer.location();
+		final Location to = from.clone();
+
+		if (random.nextDouble() < script.walkingFraction())
+		{
+			to.add(random.nextDouble(-WALK_STEP, WALK_STEP), 0, random.nextDouble(-WALK_STEP, WALK_STEP));
+			simulatedPlayer.moveTo(to);
+		}
+		else
+		{
+			to.setYaw((float) random.nextDouble(-180, 180));
+		}
+
+		return new PlayerMoveEvent(simulatedPlayer.player(), from, to);
+	}
+
+
+	private boolean fires(final double ratePerSecond)
+	{
+		return random.nextDouble() < SimulationScript.perTick(ratePerSecond);
+	}
+
+
+	private static long cancellations(final OperationMetrics metrics)
+	{
+		return metrics.count(Counter.TELEPORT_CANCELLED_MOVEMENT)
+				+ metrics.count(Counter.TELEPORT_CANCELLED_DAMAGE)
+				+ metrics.count(Counter.TELEPORT_CANCELLED_INTERACTION)
+				+ metrics.count(Counter.TELEPORT_CANCELLED_DEATH)
+				+ metrics.count(Counter.TELEPORT_CANCELLED_QUIT);
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.simulation;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+
+/**
+ * Virtual player for the load simulation. The player holds a single item in the first hotbar slot, has every
+ * permission, never sneaks, and moves only when the simulation moves it or a teleport succeeds.
+ */
+final class SimulatedPlayer
+{
+	private final UUID uid;
+	private final String name;
+	private final ItemStack item;
+	private final Player player;
+	private Location location;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param index the index of the player, from which its uid and name are derived
+	 * @param location the initial location of the player
+	 * @param item the item held in the player's main hand
+	 */
+	SimulatedPlayer(final int index, final Location location, final ItemStack item)
+	{
+		this.uid = new UUID(0x506c61796572L, index);
+		this.name = "Player" + index;
+		this.location = location;
+		this.item = item;
+
+		final PlayerInventory inventory = (PlayerInventory) Proxy.newProxyInstance(PlayerInventory.class.getClassLoader(),
+				new Class<?>[] { PlayerInventory.class },
+				(proxy, method, args) -> switch (method.getName())
+				{
+					case "getItemInMainHand" -> this.item;
+					case "getHeldItemSlot" -> 0;
+					case "getItem" -> (args[0] instanceof Integer slot && slot == 0) ? this.item : null;
+					case "setItemInMainHand" -> null;
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> "SimulatedInventory{" + name + "}";
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+
+		this.player = (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] { Player.class },
+				(proxy, method, args) -> switch (method.getName())
+				{
+					case "getUniqueId" -> uid;
+					case "getName", "getDisplayName" -> name;
+					case "getWorld" -> this.location.getWorld();
+					case "getLocation" -> this.location.clone();
+					case "getRespawnLocation" -> null;
+					case "getInventory" -> inventory;
+					case "hasPermission" -> true;
+					case "isSneaking" -> false;
+					case "isOnline" -> true;
+					case "teleport" -> teleport(args[0]);
+					case "hashCode" -> uid.hashCode();
+					case "equals" -> proxy == args[0];
+					case "toString" -> "SimulatedPlayer{" + name + "}";
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+
+	private boolean teleport(final Object target)
+	{
+		if (target instanceof Location destination)
+		{
+			location = destination.clone();
+			return true;
+		}
+		return false;
+	}
+
+
+	Player player()
+	{
+		return player;
+	}
+
+
+	Location location()
+	{
+		return location.clone();
+	}
+
+
+	void moveTo(final Location location)
+	{
+		this.location = location.clone();
+	}
+
+}
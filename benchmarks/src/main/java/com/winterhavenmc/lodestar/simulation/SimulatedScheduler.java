@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.simulation;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+
+/**
+ * Scheduler that runs tasks only when it is advanced by {@link #tick()}, so that a simulation controls the passage
+ * of server ticks. Tasks due in a tick run in the order they were scheduled. Asynchronous tasks are run on the
+ * simulation thread in the following tick, like synchronous tasks, so that their work is included in the
+ * measurement of the tick.
+ */
+final class SimulatedScheduler
+{
+	private final PriorityQueue<SimulatedTask> queue = new PriorityQueue<>();
+	private final Map<Integer, SimulatedTask> tasks = new HashMap<>();
+	private final BukkitScheduler scheduler;
+	private long currentTick;
+	private int nextTaskId = 1;
+
+
+	SimulatedScheduler()
+	{
+		this.scheduler = (BukkitScheduler) Proxy.newProxyInstance(BukkitScheduler.class.getClassLoader(),
+				new Class<?>[] { BukkitScheduler.class },
+				(proxy, method, args) -> switch (method.getName())
+				{
+					case "runTask", "runTaskAsynchronously" -> schedule((Plugin) args[0], (Runnable) args[1], 0L, 0L);
+					case "runTaskLater", "runTaskLaterAsynchronously" -> schedule((Plugin) args[0], (Runnable) args[1], (long) args[2], 0L);
+					case "runTaskTimer", "runTaskTimerAsynchronously" -> schedule((Plugin) args[0], (Runnable) args[1], (long) args[2], (long) args[3]);
+					case "cancelTask" -> cancel((int) args[0]);
+					case "isQueued" -> tasks.containsKey((int) args[0]);
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> "SimulatedScheduler";
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+
+	/**
+	 * Get the Bukkit scheduler view of this scheduler
+	 *
+	 * @return the Bukkit scheduler
+	 */
+	BukkitScheduler scheduler()
+	{
+		return scheduler;
+	}
+
+
+	/**
+	 * Advance one tick, running every task that is due
+	 */
+	void tick()
+	{
+		currentTick++;
+
+		while (!queue.isEmpty() && queue.peek().nextTick <= currentTick)
+		{
+			SimulatedTask task = queue.poll();
+			if (task.cancelled)
+			{
+				continue;
+			}
+
+			if (task.period > 0)
+			{
+				task.nextTick = currentTick + task.period;
+				queue.add(task);
+			}
+			else
+			{
+				tasks.remove(task.taskId);
+			}
+
+			task.runnable.run();
+		}
+	}
+
+
+	/**
+	 * Get the number of scheduled tasks
+	 *
+	 * @return the number of tasks that have not been cancelled or run to completion
+	 */
+	int pendingTasks()
+	{
+		return tasks.size();
+	}
+
+
+	/**
+	 * Cancel all tasks and restart the tick count
+	 */
+	void reset()
+	{
+		tasks.values().forEach(task -> task.cancelled = true);
+		tasks.clear();
+		queue.clear();
+		currentTick = 0;
+	}
+
+
+	private BukkitTask schedule(final Plugin plugin, final Runnable runnable, final long delay, final long period)
+	{
+		// as on the server, a task is never run in the tick in which it is scheduled
+		SimulatedTask task = new SimulatedTask(nextTaskId++, plugin, runnable, currentTick + Math.max(1L, delay), period);
+		tasks.put(task.taskId, task);
+		queue.add(task);
+		return task;
+	}
+
+
+	private Void cancel(final int taskId)
+	{
+		SimulatedTask task = tasks.remove(taskId);
+		if (task != null)
+		{
+			task.cancelled = true;
+		}
+		return null;
+	}
+
+
+	private final class SimulatedTask implements BukkitTask, Comparable<SimulatedTask>
+	{
+		private final int taskId;
+		private final Plugin owner;
+		private final Runnable runnable;
+		private final long period;
+		private long nextTick;
+		private boolean cancelled;
+
+
+		private SimulatedTask(final int taskId, final Plugin owner, final Runnable runnable, final long nextTick, final long period)
+		{
+			this.taskId = taskId;
+			this.owner = owner;
+			this.runnable = runnable;
+			this.nextTick = nextTick;
+			this.period = period;
+		}
+
+
+		@Override
+		public int getTaskId()
+		{
+			return taskId;
+		}
+
+
+		@Override
+		public Plugin getOwner()
+		{
+			return owner;
+		}
+
+
+		@Override
+		public boolean isSync()
+		{
+			return true;
+		}
+
+
+		@Override
+		public boolean isCancelled()
+		{
+			return cancelled;
+		}
+
+
+		@Override
+		public void cancel()
+		{
+			SimulatedScheduler.this.cancel(taskId);
+		}
+
+
+		@Override
+		public int compareTo(final SimulatedTask other)
+		{
+			return (nextTick != other.nextTick)
+					? Long.compare(nextTick, other.nextTick)
+					: Integer.compare(taskId, other.taskId);
+		}
+	}
+
+}
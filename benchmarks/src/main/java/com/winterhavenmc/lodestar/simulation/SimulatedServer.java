@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.simulation;
+
+import com.winterhavenmc.lodestar.benchmarks.FakeWorlds;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.plugin.PluginManager;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+
+/**
+ * Fake server with a single world, whose scheduler is advanced by the simulation. The server is installed as the
+ * Bukkit singleton, which can only be set once, so one instance is shared by every simulation run in a JVM.
+ * Event registration is discarded; the simulation calls listener methods directly.
+ */
+final class SimulatedServer
+{
+	private static SimulatedServer instance;
+
+	private final Logger logger = Logger.getLogger("LodeStarSimulation");
+	private final SimulatedScheduler scheduler = new SimulatedScheduler();
+	private final World world = FakeWorlds.world("world", new UUID(0x53696d756c617465L, 0x64576f726c640000L));
+	private final Server server;
+
+
+	private SimulatedServer()
+	{
+		final PluginManager pluginManager = (PluginManager) Proxy.newProxyInstance(PluginManager.class.getClassLoader(),
+				new Class<?>[] { PluginManager.class },
+				(proxy, method, args) -> switch (method.getName())
+				{
+					case "registerEvents" -> null;
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> "SimulatedPluginManager";
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+
+		this.server = (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[] { Server.class },
+				(proxy, method, args) -> switch (method.getName())
+				{
+					case "getName" -> "LodeStarSimulation";
+					case "getVersion", "getBukkitVersion" -> "simulated";
+					case "getLogger" -> logger;
+					case "getScheduler" -> scheduler.scheduler();
+					case "getPluginManager" -> pluginManager;
+					case "getWorlds" -> List.of(world);
+					case "getOnlinePlayers" -> List.of();
+					case "getWorld" -> (args[0].equals(world.getUID()) || args[0].equals(world.getName())) ? world : null;
+					case "isPrimaryThread" -> true;
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> "SimulatedServer";
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+
+	/**
+	 * Get the simulated server, installing it as the Bukkit server on first use
+	 *
+	 * @return the simulated server
+	 */
+	static synchronized SimulatedServer get()
+	{
+		if (instance == null)
+		{
+			instance = new SimulatedServer();
+			Bukkit.setServer(instance.server);
+		}
+		return instance;
+	}
+
+
+	/**
+	 * Cancel all scheduled tasks, and register the simulated world as the only loaded world
+	 */
+	void reset()
+	{
+		scheduler.reset();
+		FakeWorlds.register(world);
+	}
+
+
+	Server server()
+	{
+		return server;
+	}
+
+
+	SimulatedScheduler scheduler()
+	{
+		return scheduler;
+	}
+
+
+	World world()
+	{
+		return world;
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.simulation;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+
+/**
+ * Measurements of one simulation run. Per-tick values are distributions over the measured ticks.
+ *
+ * @param players the number of simulated players
+ * @param ticks the number of measured ticks
+ * @param cpuNanosP50 median CPU time per tick, in nanoseconds
+ * @param cpuNanosP99 99th percentile CPU time per tick, in nanoseconds
+ * @param cpuNanosMax maximum CPU time per tick, in nanoseconds
+ * @param allocatedBytesMean mean bytes allocated per tick
+ * @param warmupMean mean number of players warming up, sampled at the end of each tick
+ * @param warmupMax maximum number of players warming up
+ * @param cooldownMean mean number of players cooling down, sampled at the end of each tick
+ * @param cooldownMax maximum number of players cooling down
+ * @param started teleports started during measurement
+ * @param completed teleports completed during measurement
+ * @param cancelled teleports cancelled during measurement
+ */
+record SimulationResult(int players,
+                        int ticks,
+                        long cpuNanosP50,
+                        long cpuNanosP99,
+                        long cpuNanosMax,
+                        long allocatedBytesMean,
+                        double warmupMean,
+                        int warmupMax,
+                        double cooldownMean,
+                        int cooldownMax,
+                        long started,
+                        long completed,
+                        long cancelled)
+{
+	private static final String HEADER_FORMAT = "%8s %10s %10s %10s %12s %12s %10s %10s %10s %10s %10s%n";
+	private static final String ROW_FORMAT = "%8d %10.1f %10.1f %10.1f %12.1f %12.1f %10s %10s %10d %10d %10d%n";
+
+
+	/**
+	 * Create a result from per-tick samples
+	 *
+	 * @param players the number of simulated players
+	 * @param cpuNanos CPU time of each tick, which is sorted in place
+	 * @param allocatedBytes bytes allocated in each tick
+	 * @param warmupSizes warmup map size at the end of each tick
+	 * @param cooldownSizes cooldown map size at the end of each tick
+	 * @param started teleports started
+	 * @param completed teleports completed
+	 * @param cancelled teleports cancelled
+	 * @return the result
+	 */
+	static SimulationResult of(final int players,
+	                           final long[] cpuNanos,
+	                           final long[] allocatedBytes,
+	                           final int[] warmupSizes,
+	                           final int[] cooldownSizes,
+	                           final long started,
+	                           final long completed,
+	                           final long cancelled)
+	{
+		Arrays.sort(cpuNanos);
+
+		return new SimulationResult(players, cpuNanos.length,
+				percentile(cpuNanos, 0.50), percentile(cpuNanos, 0.99), cpuNanos[cpuNanos.length - 1],
+				(long) Arrays.stream(allocatedBytes).average().orElse(0),
+				Arrays.stream(warmupSizes).average().orElse(0), Arrays.stream(warmupSizes).max().orElse(0),
+				Arrays.stream(cooldownSizes).average().orElse(0), Arrays.stream(cooldownSizes).max().orElse(0),
+				started, completed, cancelled);
+	}
+
+
+	private static long percentile(final long[] sorted, final double quantile)
+	{
+		return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+	}
+
+
+	/**
+	 * Get the mean CPU time per player per tick, in nanoseconds, from the median tick
+	 *
+	 * @return the CPU time per player per tick
+	 */
+	double cpuNanosPerPlayer()
+	{
+		return (double) cpuNanosP50 / players;
+	}
+
+
+	static String header()
+	{
+		return String.format(Locale.ROOT, HEADER_FORMAT, "players", "p50 µs", "p99 µs", "max µs",
+				"ns/player", "KiB/tick", "warmup", "cooldown", "started", "completed", "cancelled");
+	}
+
+
+	String row()
+	{
+		return String.format(Locale.ROOT, ROW_FORMAT, players,
+				cpuNanosP50 / 1000.0, cpuNanosP99 / 1000.0, cpuNanosMax / 1000.0,
+				cpuNanosPerPlayer(), allocatedBytesMean / 1024.0,
+				String.format(Locale.ROOT, "%.0f/%d", warmupMean, warmupMax),
+				String.format(Locale.ROOT, "%.0f/%d", cooldownMean, cooldownMax),
+				started, completed, cancelled);
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.simulation;
+
+import java.util.Arrays;
+
+
+/**
+ * Scripted player behaviour and run lengths for the load simulation. Rates are per player per second, and each
+ * event is fired in a tick with probability of its rate divided by the tick rate.
+ *
+ * @param playerCounts the number of players in each run
+ * @param warmupTicks the number of ticks run before measurement starts, to warm up the JIT compiler
+ * @param ticks the number of ticks measured
+ * @param seed the random seed, combined with the player count of each run
+ * @param interactsPerSecond the rate at which each player uses its LodeStar item
+ * @param movesPerSecond the rate of move events for each player
+ * @param walkingFraction the fraction of move events that change position, rather than only the head rotation
+ * @param damagePerSecond the rate at which each player is damaged
+ */
+record SimulationScript(int[] playerCounts,
+                        int warmupTicks,
+                        int ticks,
+                        long seed,
+                        double interactsPerSecond,
+                        double movesPerSecond,
+                        double walkingFraction,
+                        double damagePerSecond)
+{
+	static final int TICKS_PER_SECOND = 20;
+
+	private static final SimulationScript DEFAULT = new SimulationScript(
+			new int[] { 10, 50, 100, 250, 500, 1000, 2000 }, 600, 1200, 1L, 0.2, 10.0, 0.02, 0.05);
+
+
+	/**
+	 * Parse a script from {@code name=value} arguments, using default values for any not given. Accepted names are
+	 * {@code players} (a comma separated list), {@code warmup-ticks}, {@code ticks}, {@code seed}, {@code interacts},
+	 * {@code moves}, {@code walking} and {@code damage}.
+	 *
+	 * @param args the command line arguments
+	 * @return the script
+	 * @throws IllegalArgumentException if an argument is not recognized or its value cannot be parsed
+	 */
+	static SimulationScript parse(final String[] args)
+	{
+		int[] playerCounts = DEFAULT.playerCounts;
+		int warmupTicks = DEFAULT.warmupTicks;
+		int ticks = DEFAULT.ticks;
+		long seed = DEFAULT.seed;
+		double interactsPerSecond = DEFAULT.interactsPerSecond;
+		double movesPerSecond = DEFAULT.movesPerSecond;
+		double walkingFraction = DEFAULT.walkingFraction;
+		double damagePerSecond = DEFAULT.damagePerSecond;
+
+		for (String arg : args)
+		{
+			final int separator = arg.indexOf('=');
+			if (separator < 0)
+			{
+				throw new IllegalArgumentException("Expected name=value: " + arg);
+			}
+
+			final String value = arg.substring(separator + 1);
+			switch (arg.substring(0, separator).replaceFirst("^--", ""))
+			{
+				case "players" -> playerCounts = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+				case "warmup-ticks" -> warmupTicks = Integer.parseInt(value);
+				case "ticks" -> ticks = Integer.parseInt(value);
+				case "seed" -> seed = Long.parseLong(value);
+				case "interacts" -> interactsPerSecond = Double.parseDouble(value);
+				case "moves" -> movesPerSecond = Double.parseDouble(value);
+				case "walking" -> walkingFraction = Double.parseDouble(value);
+				case "damage" -> damagePerSecond = Double.parseDouble(value);
+				default -> throw new IllegalArgumentException("Unknown argument: " + arg);
+			}
+		}
+
+		return new SimulationScript(playerCounts, warmupTicks, ticks, seed,
+				interactsPerSecond, movesPerSecond, walkingFraction, damagePerSecond);
+	}
+
+
+	/**
+	 * Get the probability that an event with the given rate is fired for a player in a tick
+	 *
+	 * @param ratePerSecond the event rate per player per second
+	 * @return the probability per tick
+	 */
+	static double perTick(final double ratePerSecond)
+	{
+		return ratePerSecond / TICKS_PER_SECOND;
+	}
+
+}
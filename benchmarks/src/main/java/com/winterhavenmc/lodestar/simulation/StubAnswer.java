@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.simulation;
+
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Default answer for stub-only mocks of library types whose behaviour is outside the simulation, such as the
+ * message builder. Boolean queries answer {@code true}, so worlds are enabled and held items are recognized;
+ * fluent methods return their own mock; other interface and class results are stub-only mocks sharing this answer,
+ * one per type; and everything else receives the Mockito empty value.
+ * <p>
+ * Unlike deep stubs, stub-only mocks do not record their invocations, so memory use does not grow with the
+ * number of messages sent over a long simulation.
+ */
+final class StubAnswer implements Answer<Object>
+{
+	private final Map<Class<?>, Object> stubs = new HashMap<>();
+
+
+	/**
+	 * Create a stub-only mock answered by a new stub answer
+	 *
+	 * @param type the type to mock
+	 * @return the mock
+	 */
+	static <T> T stub(final Class<T> type)
+	{
+		return mock(type, withSettings().stubOnly().defaultAnswer(new StubAnswer()));
+	}
+
+
+	@Override
+	public Object answer(final InvocationOnMock invocation) throws Throwable
+	{
+		final Class<?> returnType = invocation.getMethod().getReturnType();
+
+		if (returnType == boolean.class || returnType == Boolean.class)
+		{
+			return true;
+		}
+
+		final Object emptyValue = RETURNS_DEFAULTS.answer(invocation);
+		if (emptyValue != null || returnType.isPrimitive() || returnType == Object.class
+				|| returnType == String.class || Modifier.isFinal(returnType.getModifiers()))
+		{
+			return emptyValue;
+		}
+
+		if (returnType.isInstance(invocation.getMock()))
+		{
+			return invocation.getMock();
+		}
+
+		Object stub = stubs.get(returnType);
+		if (stub == null)
+		{
+			try
+			{
+				stub = mock(returnType, withSettings().stubOnly().defaultAnswer(this));
+			}
+			catch (MockitoException exception)
+			{
+				return null;
+			}
+			stubs.put(returnType, stub);
+		}
+		return stub;
+	}
+
+}
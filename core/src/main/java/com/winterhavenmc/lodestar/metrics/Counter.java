@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics;
+
+
+/**
+ * Enum of plugin events counted by {@link OperationMetrics}
+ */
+public enum Counter
+{
+	TELEPORT_STARTED,
+	TELEPORT_COMPLETED,
+	TELEPORT_CANCELLED_MOVEMENT,
+	TELEPORT_CANCELLED_DAMAGE,
+	TELEPORT_CANCELLED_INTERACTION,
+	TELEPORT_CANCELLED_DEATH,
+	TELEPORT_CANCELLED_QUIT,
+	COOLDOWN_REJECTED,
+	DESTINATION_CACHE_HIT,
+	DESTINATION_CACHE_MISS,
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics;
+
+
+/**
+ * Enum of plugin state sizes sampled by {@link OperationMetrics}
+ */
+public enum Gauge
+{
+	WARMUP_PLAYERS("warmup_players", "Players with a pending teleport warmup."),
+	COOLDOWN_PLAYERS("cooldown_players", "Players in teleport cooldown."),
+	PREFETCH_ACTIVE("prefetch_active", "Pending or active destination prefetches."),
+	DESTINATION_CACHE_SIZE("destination_cache_size", "Destinations held in the repository cache."),
+	PROTOTYPE_CACHE_SIZE("prototype_cache_size", "Prototype items held in the item cache."),
+	HOME_CACHE_SIZE("home_cache_size", "Player home locations held in the home location cache."),
+	;
+
+	private final String metricName;
+	private final String help;
+
+
+	Gauge(final String metricName, final String help)
+	{
+		this.metricName = metricName;
+		this.help = help;
+	}
+
+
+	/**
+	 * Get the name of the gauge in exported metrics
+	 *
+	 * @return the metric name of the gauge
+	 */
+	public String metricName()
+	{
+		return metricName;
+	}
+
+
+	/**
+	 * Get the description of the gauge in exported metrics
+	 *
+	 * @return the help text of the gauge
+	 */
+	public String help()
+	{
+		return help;
+	}
+
+}
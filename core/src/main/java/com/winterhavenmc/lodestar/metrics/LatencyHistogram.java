@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Lock-free latency recorder with log-linear buckets, in the manner of HdrHistogram. Values below 32 ns are
+ * counted exactly; above that, each power of two is divided into 16 linear sub-buckets, giving a relative error
+ * of at most 1/16. Values are clamped to about 37 minutes, which keeps the bucket array at 608 counters.
+ * <p>
+ * Recordings are kept both since the last reset and in a rolling window made of a ring of fixed intervals.
+ * An interval is cleared by the first recording that lands in it after it falls out of the window, so a recording
+ * racing with that rotation may be lost; this is acceptable for diagnostics and keeps the record path free of locks.
+ */
+public final class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+	private static final int MAX_EXPONENT = 40;
+	private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+	static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final long intervalNanos;
+	private final Interval[] intervals;
+	private final Interval total = new Interval();
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param window the duration of the rolling window
+	 * @param intervalCount the number of intervals the rolling window is divided into
+	 */
+	public LatencyHistogram(final Duration window, final int intervalCount)
+	{
+		this.intervalNanos = Math.max(1L, window.toNanos() / intervalCount);
+		this.intervals = new Interval[intervalCount];
+		for (int i = 0; i < intervalCount; i++)
+		{
+			intervals[i] = new Interval();
+		}
+	}
+
+
+	/**
+	 * Record an operation latency
+	 *
+	 * @param nanos the latency in nanoseconds
+	 */
+	public void record(final long nanos)
+	{
+		final long value = Math.clamp(nanos, 0L, MAX_VALUE);
+		final int index = bucketIndex(value);
+		final long epoch = Math.floorDiv(System.nanoTime(), intervalNanos);
+		final Interval interval = intervals[(int) Math.floorMod(epoch, intervals.length)];
+
+		final long intervalEpoch = interval.epoch.get();
+		if (intervalEpoch != epoch && interval.epoch.compareAndSet(intervalEpoch, epoch))
+		{
+			interval.clear();
+		}
+
+		interval.add(index, value);
+		total.add(index, value);
+	}
+
+
+	/**
+	 * Summarize the recordings in the rolling window
+	 *
+	 * @return a snapshot of the rolling window
+	 */
+	public LatencySnapshot windowSnapshot()
+	{
+		final long currentEpoch = Math.floorDiv(System.nanoTime(), intervalNanos);
+		final long[] counts = new long[BUCKET_COUNT];
+		long count = 0;
+		long max = 0;
+
+		for (Interval interval : intervals)
+		{
+			final long age = currentEpoch - interval.epoch.get();
+			if (age >= 0 && age < intervals.length)
+			{
+				count += interval.addTo(counts);
+				max = Math.max(max, interval.max.get());
+			}
+		}
+
+		return summarize(counts, count, max);
+	}
+
+
+	/**
+	 * Summarize all recordings since the histogram was created or last reset
+	 *
+	 * @return a snapshot of all recordings
+	 */
+	public LatencySnapshot totalSnapshot()
+	{
+		final long[] counts = new long[BUCKET_COUNT];
+		final long count = total.addTo(counts);
+		return summarize(counts, count, total.max.get());
+	}
+
+
+	/**
+	 * Discard all recordings
+	 */
+	public void reset()
+	{
+		for (Interval interval : intervals)
+		{
+			interval.epoch.set(Long.MIN_VALUE);
+			interval.clear();
+		}
+		total.clear();
+	}
+
+
+	private static LatencySnapshot summarize(final long[] counts, final long count, final long max)
+	{
+		if (count == 0)
+		{
+			return LatencySnapshot.EMPTY;
+		}
+
+		return new LatencySnapshot(count,
+				Math.min(valueAtPercentile(counts, count, 0.50), max),
+				Math.min(valueAtPercentile(counts, count, 0.99), max),
+				max);
+	}
+
+
+	private static long valueAtPercentile(final long[] counts, final long count, final double percentile)
+	{
+		final long target = Math.max(1L, (long) Math.ceil(percentile * count));
+		long cumulative = 0;
+
+		for (int index = 0; index < counts.length; index++)
+		{
+			cumulative += counts[index];
+			if (cumulative >= target)
+			{
+				return bucketUpperBound(index);
+			}
+		}
+
+		return MAX_VALUE;
+	}
+
+
+	/**
+	 * Get the bucket index for a value
+	 *
+	 * @param value a non-negative value no greater than the maximum trackable value
+	 * @return the index of the bucket counting the value
+	 */
+	static int bucketIndex(final long value)
+	{
+		if (value < LINEAR_LIMIT)
+		{
+			return (int) value;
+		}
+
+		final int exponent = 63 - Long.numberOfLeadingZeros(value);
+		final int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+		return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + mantissa;
+	}
+
+
+	/**
+	 * Get the highest value counted by a bucket
+	 *
+	 * @param index the bucket index
+	 * @return the highest value equivalent to the values counted by the bucket
+	 */
+	static long bucketUpperBound(final int index)
+	{
+		if (index < LINEAR_LIMIT)
+		{
+			return index;
+		}
+
+		final int exponent = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+		final int mantissa = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+		final long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return (SUB_BUCKET_COUNT + mantissa) * width + width - 1;
+	}
+
+
+	/**
+	 * Bucket counts, count and maximum for one interval of the rolling window, or for the total
+	 */
+	private static final class Interval
+	{
+		private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong max = new AtomicLong();
+		private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+
+
+		private void add(final int index, final long value)
+		{
+			counts.incrementAndGet(index);
+			count.incrementAndGet();
+			max.accumulateAndGet(value, Math::max);
+		}
+
+
+		private long addTo(final long[] target)
+		{
+			for (int index = 0; index < BUCKET_COUNT; index++)
+			{
+				target[index] += counts.get(index);
+			}
+			return count.get();
+		}
+
+
+		private void clear()
+		{
+			for (int index = 0; index < BUCKET_COUNT; index++)
+			{
+				counts.set(index, 0L);
+			}
+			count.set(0L);
+			max.set(0L);
+		}
+	}
+
+}
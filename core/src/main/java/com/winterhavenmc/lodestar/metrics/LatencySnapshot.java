@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics;
+
+
+/**
+ * Point-in-time summary of a {@link LatencyHistogram}, with all latencies in nanoseconds
+ *
+ * @param count the number of recorded operations
+ * @param p50 the median latency
+ * @param p99 the 99th percentile latency
+ * @param max the maximum recorded latency
+ */
+public record LatencySnapshot(long count, long p50, long p99, long max)
+{
+	public static final LatencySnapshot EMPTY = new LatencySnapshot(0, 0, 0, 0);
+
+
+	/**
+	 * Check if the snapshot contains any recorded operations
+	 *
+	 * @return {@code true} if no operations were recorded, {@code false} if any were
+	 */
+	public boolean isEmpty()
+	{
+		return count == 0;
+	}
+
+}
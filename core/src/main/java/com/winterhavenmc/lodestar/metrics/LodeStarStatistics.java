@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics;
+
+
+/**
+ * Read-only view of LodeStar operational statistics, registered with the server services manager
+ * for use by other plugins. Unless noted otherwise, methods should be called from the main server thread.
+ */
+public interface LodeStarStatistics
+{
+	/**
+	 * Get the number of times an event has occurred since the plugin was enabled
+	 *
+	 * @param counter the counted event
+	 * @return the count of the event
+	 */
+	long count(Counter counter);
+
+
+	/**
+	 * Get the fraction of destination lookups answered from the destination cache
+	 *
+	 * @return the cache hit ratio between 0 and 1, or 0 if no lookups have been made
+	 */
+	double destinationCacheHitRatio();
+
+
+	/**
+	 * Get the number of stored destinations. The count is kept in memory, so this method makes no datastore
+	 * query, and is safe to call from any thread.
+	 *
+	 * @return the number of stored destinations
+	 */
+	int destinationCount();
+
+
+	/**
+	 * Get the latency of an operation over the last minute
+	 *
+	 * @param operation the timed operation
+	 * @return a snapshot of the operation latency
+	 */
+	LatencySnapshot latency(Operation operation);
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics;
+
+
+/**
+ * Enum of plugin operations whose latency is recorded by {@link OperationMetrics}
+ */
+public enum Operation
+{
+	DATASTORE_GET("datastore.get", false),
+	DATASTORE_SAVE("datastore.save", false),
+	DATASTORE_DELETE("datastore.delete", false),
+	DATASTORE_NAMES("datastore.names", false),
+	TELEPORT_INITIATE("teleport.initiate", false),
+	EVENT_INTERACT("event.interact", true),
+	EVENT_CRAFT_PREPARE("event.craft-prepare", true),
+	EVENT_ITEM_HELD("event.item-held", true),
+	EVENT_SWAP_HANDS("event.swap-hands", true),
+	EVENT_MOVE("event.move", true),
+	EVENT_DAMAGE("event.damage", true),
+	EVENT_BLOCK_BREAK("event.block-break", true),
+	EVENT_EXPLODE("event.explode", true),
+	EVENT_WORLD("event.world", true),
+	EVENT_PLAYER_JOIN("event.player-join", true),
+	EVENT_PLAYER_QUIT("event.player-quit", true),
+	EVENT_PLAYER_DEATH("event.player-death", true),
+	EVENT_PLAYER_TELEPORT("event.player-teleport", true),
+	EVENT_PLAYER_SPAWN_CHANGE("event.player-spawn-change", true),
+	TASK_TELEPORT("task.teleport", true),
+	TASK_GROUP_TELEPORT("task.group-teleport", true),
+	TASK_BATCH_GIVE("task.batch-give", true),
+	TASK_PREFETCH("task.prefetch", true),
+	COMMAND("command", true),
+	TAB_COMPLETE("tab-complete", true),
+	;
+
+	private final String displayName;
+	private final boolean entryPoint;
+
+
+	Operation(final String displayName, final boolean entryPoint)
+	{
+		this.displayName = displayName;
+		this.entryPoint = entryPoint;
+	}
+
+
+	/**
+	 * Get the name of the operation as displayed by the metrics command
+	 *
+	 * @return the display name of the operation
+	 */
+	public String displayName()
+	{
+		return displayName;
+	}
+
+
+	/**
+	 * Check if the operation is invoked directly by the server event bus, scheduler or command dispatcher.
+	 * Only entry point operations are summed into the per-tick cost, because the time of nested operations,
+	 * such as repository queries, is already included in the entry point that called them.
+	 *
+	 * @return {@code true} if the operation is an entry point, {@code false} if it is nested
+	 */
+	public boolean isEntryPoint()
+	{
+		return entryPoint;
+	}
+
+}
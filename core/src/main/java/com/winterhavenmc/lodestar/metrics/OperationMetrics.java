@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+
+/**
+ * Registry of latency histograms, one for each {@link Operation}, and of event counters, one for each
+ * {@link Counter}. Callers time an operation with {@link System#nanoTime()} and pass the elapsed time to
+ * {@link #record(Operation, long)}, and count events with {@link #increment(Counter)}. Recording and counting
+ * are lock-free and may be called from any thread; counters are {@link LongAdder}s, so concurrent increments
+ * from event handlers do not contend on a single value.
+ */
+public final class OperationMetrics
+{
+	private static final Duration WINDOW = Duration.ofMinutes(1);
+	private static final int WINDOW_INTERVALS = 6;
+
+	private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+	private final Map<Counter, LongAdder> counters = new EnumMap<>(Counter.class);
+	private final Map<Gauge, IntSupplier> gaugeSuppliers = new EnumMap<>(Gauge.class);
+	private final AtomicLongArray gaugeValues = new AtomicLongArray(Gauge.values().length);
+
+	private volatile SlowOperationLog slowOperationLog;
+	private volatile TickBudgetTracker tickBudgetTracker;
+	private volatile long slowThresholdNanos = Long.MAX_VALUE;
+
+
+	/**
+	 * Class constructor
+	 */
+	public OperationMetrics()
+	{
+		for (Operation operation : Operation.values())
+		{
+			histograms.put(operation, new LatencyHistogram(WINDOW, WINDOW_INTERVALS));
+		}
+
+		for (Counter counter : Counter.values())
+		{
+			counters.put(counter, new LongAdder());
+		}
+	}
+
+
+	/**
+	 * Record the latency of an operation
+	 *
+	 * @param operation the operation that was timed
+	 * @param nanos the elapsed time of the operation in nanoseconds
+	 */
+	public void record(final Operation operation, final long nanos)
+	{
+		record(operation, nanos, null);
+	}
+
+
+	/**
+	 * Record the latency of an operation, and write it to the slow operation log if it exceeded the threshold
+	 *
+	 * @param operation the operation that was timed
+	 * @param nanos the elapsed time of the operation in nanoseconds
+	 * @param argument the operation argument, converted to a string only if the operation was slow; may be null
+	 */
+	public void record(final Operation operation, final long nanos, final Object argument)
+	{
+		histograms.get(operation).record(nanos);
+
+		if (operation.isEntryPoint())
+		{
+			TickBudgetTracker tracker = tickBudgetTracker;
+			if (tracker != null)
+			{
+				tracker.add(operation, nanos);
+			}
+		}
+
+		if (nanos > slowThresholdNanos)
+		{
+			SlowOperationLog log = slowOperationLog;
+			if (log != null)
+			{
+				log.submit(operation, nanos, argument);
+			}
+		}
+	}
+
+
+	/**
+	 * Set the log to which slow operations are written
+	 *
+	 * @param slowOperationLog the slow operation log, or null to stop logging slow operations
+	 */
+	public void setSlowOperationLog(final SlowOperationLog slowOperationLog)
+	{
+		this.slowOperationLog = slowOperationLog;
+	}
+
+
+	/**
+	 * Set the tracker to which the time of entry point operations on the main thread is added
+	 *
+	 * @param tickBudgetTracker the per-tick budget tracker, or null to stop tracking per-tick cost
+	 */
+	public void setTickBudgetTracker(final TickBudgetTracker tickBudgetTracker)
+	{
+		this.tickBudgetTracker = tickBudgetTracker;
+	}
+
+
+	/**
+	 * Get the per-tick budget tracker
+	 *
+	 * @return {@link Optional} wrapped tracker, or an empty optional if per-tick cost is not tracked
+	 */
+	public Optional<TickBudgetTracker> tickBudgetTracker()
+	{
+		return Optional.ofNullable(tickBudgetTracker);
+	}
+
+
+	/**
+	 * Set the duration above which an operation is written to the slow operation log
+	 *
+	 * @param thresholdMicros the threshold in microseconds, or zero or less to disable logging
+	 */
+	public void setSlowOperationThreshold(final long thresholdMicros)
+	{
+		this.slowThresholdNanos = (thresholdMicros > 0)
+				? TimeUnit.MICROSECONDS.toNanos(thresholdMicros)
+				: Long.MAX_VALUE;
+	}
+
+
+	/**
+	 * Count an occurrence of an event
+	 *
+	 * @param counter the counted event
+	 */
+	public void increment(final Counter counter)
+	{
+		counters.get(counter).increment();
+	}
+
+
+	/**
+	 * Get the number of occurrences of an event since the plugin was enabled. Counters are not cleared
+	 * by {@link #reset()}.
+	 *
+	 * @param counter the counted event
+	 * @return the count of the event
+	 */
+	public long count(final Counter counter)
+	{
+		return counters.get(counter).sum();
+	}
+
+
+	/**
+	 * Register the source of a gauge. Gauge sources are usually structures owned by the main server thread,
+	 * so they are only read by {@link #sampleGauges()}. Must be called during plugin enable.
+	 *
+	 * @param gauge the gauge
+	 * @param supplier the source of the gauge value
+	 */
+	public void registerGauge(final Gauge gauge, final IntSupplier supplier)
+	{
+		gaugeSuppliers.put(gauge, supplier);
+	}
+
+
+	/**
+	 * Read all registered gauge sources, and store their values for {@link #gauge(Gauge)}.
+	 * Must be called on the main server thread.
+	 */
+	public void sampleGauges()
+	{
+		gaugeSuppliers.forEach((gauge, supplier) -> gaugeValues.set(gauge.ordinal(), supplier.getAsInt()));
+	}
+
+
+	/**
+	 * Get the most recently sampled value of a gauge. May be called from any thread.
+	 *
+	 * @param gauge the gauge
+	 * @return the gauge value at the last sample, or zero if it has not been sampled
+	 */
+	public long gauge(final Gauge gauge)
+	{
+		return gaugeValues.get(gauge.ordinal());
+	}
+
+
+	/**
+	 * Summarize the recordings of an operation over the rolling window
+	 *
+	 * @param operation the operation
+	 * @return a snapshot of the operation latency over the last minute
+	 */
+	public LatencySnapshot windowSnapshot(final Operation operation)
+	{
+		return histograms.get(operation).windowSnapshot();
+	}
+
+
+	/**
+	 * Summarize all recordings of an operation since the last reset
+	 *
+	 * @param operation the operation
+	 * @return a snapshot of the operation latency since the last reset
+	 */
+	public LatencySnapshot totalSnapshot(final Operation operation)
+	{
+		return histograms.get(operation).totalSnapshot();
+	}
+
+
+	/**
+	 * Get the duration of the rolling window
+	 *
+	 * @return the duration of the rolling window
+	 */
+	public Duration window()
+	{
+		return WINDOW;
+	}
+
+
+	/**
+	 * Discard the latency recordings of all operations
+	 */
+	public void reset()
+	{
+		histograms.values().forEach(LatencyHistogram::reset);
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics;
+
+import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
+
+
+/**
+ * Implementation of {@link LodeStarStatistics} backed by the plugin operation metrics and datastore
+ */
+public final class OperationStatistics implements LodeStarStatistics
+{
+	private final OperationMetrics metrics;
+	private final ConnectionProvider datastore;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param metrics the operation metrics registry
+	 * @param datastore the datastore connection provider
+	 */
+	public OperationStatistics(final OperationMetrics metrics, final ConnectionProvider datastore)
+	{
+		this.metrics = metrics;
+		this.datastore = datastore;
+	}
+
+
+	@Override
+	public long count(final Counter counter)
+	{
+		return metrics.count(counter);
+	}
+
+
+	@Override
+	public double destinationCacheHitRatio()
+	{
+		long hits = metrics.count(Counter.DESTINATION_CACHE_HIT);
+		long lookups = hits + metrics.count(Counter.DESTINATION_CACHE_MISS);
+		return (lookups == 0) ? 0 : (double) hits / lookups;
+	}
+
+
+	@Override
+	public int destinationCount()
+	{
+		return datastore.destinations().count();
+	}
+
+
+	@Override
+	public LatencySnapshot latency(final Operation operation)
+	{
+		return metrics.windowSnapshot(operation);
+	}
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+
+/**
+ * Writes a record of each operation that exceeded the slow operation threshold to a rolling log file, separate
+ * from the server log. Records are formatted and written on a single background thread; if the writer falls
+ * behind, new records are dropped rather than blocking the thread that reported them.
+ */
+public final class SlowOperationLog
+{
+	private static final String FILE_PATTERN = "slow-operations.%g.log";
+	private static final int FILE_SIZE_LIMIT = 1024 * 1024;
+	private static final int FILE_COUNT = 3;
+	private static final int QUEUE_CAPACITY = 1024;
+	private static final int MAX_STACK_DEPTH = 32;
+	private static final int MAX_ARGUMENT_LENGTH = 256;
+
+	private final Logger logger;
+	private final FileHandler fileHandler;
+	private final ThreadPoolExecutor writer;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param directory the directory in which to write the log files
+	 * @param logger the plugin logger, for reporting failures to write the log
+	 * @throws IOException if the log file could not be opened
+	 */
+	public SlowOperationLog(final File directory, final Logger logger) throws IOException
+	{
+		if (!directory.isDirectory() && !directory.mkdirs())
+		{
+			throw new IOException("Could not create directory " + directory);
+		}
+
+		this.logger = logger;
+		this.fileHandler = new FileHandler(new File(directory, FILE_PATTERN).getPath(), FILE_SIZE_LIMIT, FILE_COUNT, true);
+		this.fileHandler.setFormatter(new Formatter()
+		{
+			@Override
+			public String format(final LogRecord record)
+			{
+				return record.getMessage() + System.lineSeparator();
+			}
+		});
+
+		this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+				runnable ->
+				{
+					Thread thread = new Thread(runnable, "LodeStar-SlowOperationLog");
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.DiscardPolicy());
+	}
+
+
+	/**
+	 * Record a slow operation. The stack of the calling thread is sampled here; everything else is done on the
+	 * writer thread.
+	 *
+	 * @param operation the operation that exceeded the threshold
+	 * @param nanos the elapsed time of the operation in nanoseconds
+	 * @param argument the operation argument, or null if none
+	 */
+	void submit(final Operation operation, final long nanos, final Object argument)
+	{
+		final Instant timestamp = Instant.now();
+		final String threadName = Thread.currentThread().getName();
+		final StackTraceElement[] stack = new Throwable().getStackTrace();
+
+		writer.execute(() -> fileHandler.publish(new LogRecord(Level.WARNING,
+				format(timestamp, threadName, operation, nanos, argument, stack))));
+	}
+
+
+	/**
+	 * Stop the writer thread after writing any queued records, and close the log file
+	 */
+	public void close()
+	{
+		writer.shutdown();
+		try
+		{
+			if (!writer.awaitTermination(5, TimeUnit.SECONDS))
+			{
+				logger.warning("Slow operation log did not finish writing before shutdown.");
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		fileHandler.close();
+	}
+
+
+	private static String format(final Instant timestamp,
+	                             final String threadName,
+	                             final Operation operation,
+	                             final long nanos,
+	                             final Object argument,
+	                             final StackTraceElement[] stack)
+	{
+		final StringBuilder builder = new StringBuilder(512)
+				.append(timestamp).append(' ')
+				.append(operation.displayName()).append(' ')
+				.append(TimeUnit.NANOSECONDS.toMicros(nanos)).append(" µs")
+				.append(" [").append(threadName).append(']');
+
+		if (argument != null)
+		{
+			final String formatted = (argument instanceof Object[] array)
+					? Arrays.deepToString(array)
+					: String.valueOf(argument);
+
+			// keep one record well within the file size limit
+			builder.append(" args=").append(formatted, 0, Math.min(formatted.length(), MAX_ARGUMENT_LENGTH));
+			if (formatted.length() > MAX_ARGUMENT_LENGTH)
+			{
+				builder.append("... (").append(formatted.length()).append(" chars)");
+			}
+		}
+
+		// skip the frames of the metrics classes that sampled the stack
+		int frame = 0;
+		while (frame < stack.length && stack[frame].getClassName().startsWith(SlowOperationLog.class.getPackageName() + "."))
+		{
+			frame++;
+		}
+
+		final int end = Math.min(stack.length, frame + MAX_STACK_DEPTH);
+		for (; frame < end; frame++)
+		{
+			builder.append(System.lineSeparator()).append("\tat ").append(stack[frame]);
+		}
+
+		return builder.toString();
+	}
+
+}
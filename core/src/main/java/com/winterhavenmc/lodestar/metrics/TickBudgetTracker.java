@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Sums the time LodeStar spends on the main server thread in each tick, from the entry point operations recorded
+ * by {@link OperationMetrics}. A task running every tick closes the current tick: its total is recorded in a rolling
+ * distribution of per-tick cost, and if it exceeds the configured budget, a warning with a breakdown by operation
+ * is logged, at most once per warning interval.
+ * <p>
+ * A tick is measured from one run of the task to the next, so work done in a tick is counted regardless of where
+ * in the tick it falls. Operations recorded on other threads are ignored.
+ */
+public final class TickBudgetTracker extends BukkitRunnable
+{
+	private static final long WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(60);
+	private static final Operation[] OPERATIONS = Operation.values();
+
+	private final Plugin plugin;
+	private final Thread mainThread;
+	private final long[] tickNanos = new long[OPERATIONS.length];
+	private final LatencyHistogram tickCost = new LatencyHistogram(Duration.ofMinutes(1), 6);
+	private volatile long budgetNanos;
+	private volatile long ticksOverBudget;
+	private long lastWarningTime = System.nanoTime() - WARNING_INTERVAL_NANOS;
+
+
+	/**
+	 * Class constructor. Must be called on the main server thread.
+	 *
+	 * @param plugin the plugin instance
+	 */
+	public TickBudgetTracker(final Plugin plugin)
+	{
+		this.plugin = plugin;
+		this.mainThread = Thread.currentThread();
+	}
+
+
+	/**
+	 * Start closing ticks, on every server tick
+	 *
+	 * @return this tracker
+	 */
+	public TickBudgetTracker start()
+	{
+		runTaskTimer(plugin, 1L, 1L);
+		return this;
+	}
+
+
+	/**
+	 * Add the time of an operation to the current tick, if called on the main server thread
+	 *
+	 * @param operation the operation
+	 * @param nanos the elapsed time of the operation in nanoseconds
+	 */
+	void add(final Operation operation, final long nanos)
+	{
+		if (Thread.currentThread() == mainThread)
+		{
+			tickNanos[operation.ordinal()] += nanos;
+		}
+	}
+
+
+	/**
+	 * Close the current tick
+	 */
+	@Override
+	public void run()
+	{
+		long total = 0;
+		for (long nanos : tickNanos)
+		{
+			total += nanos;
+		}
+
+		tickCost.record(total);
+
+		if (budgetNanos > 0 && total > budgetNanos)
+		{
+			ticksOverBudget++;
+
+			final long now = System.nanoTime();
+			if (now - lastWarningTime >= WARNING_INTERVAL_NANOS)
+			{
+				lastWarningTime = now;
+				plugin.getLogger().warning(formatWarning(total));
+			}
+		}
+
+		Arrays.fill(tickNanos, 0L);
+	}
+
+
+	/**
+	 * Set the per-tick budget, above which a warning is logged
+	 *
+	 * @param budgetMicros the budget in microseconds, or zero or less to disable warnings
+	 */
+	public void setBudget(final long budgetMicros)
+	{
+		this.budgetNanos = Math.max(0L, TimeUnit.MICROSECONDS.toNanos(budgetMicros));
+	}
+
+
+	/**
+	 * Summarize the per-tick cost over the last minute
+	 *
+	 * @return a snapshot of per-tick cost, with one recording per tick
+	 */
+	public LatencySnapshot windowSnapshot()
+	{
+		return tickCost.windowSnapshot();
+	}
+
+
+	/**
+	 * Get the number of ticks that exceeded the budget since the plugin was enabled
+	 *
+	 * @return the number of ticks over budget
+	 */
+	public long ticksOverBudget()
+	{
+		return ticksOverBudget;
+	}
+
+
+	private String formatWarning(final long total)
+	{
+		final StringBuilder builder = new StringBuilder("LodeStar used ")
+				.append(TimeUnit.NANOSECONDS.toMicros(total)).append(" µs of main thread time in one tick, over the budget of ")
+				.append(TimeUnit.NANOSECONDS.toMicros(budgetNanos)).append(" µs:");
+
+		for (Operation operation : OPERATIONS)
+		{
+			final long nanos = tickNanos[operation.ordinal()];
+			if (nanos > 0)
+			{
+				builder.append(' ').append(operation.displayName()).append('=')
+						.append(TimeUnit.NANOSECONDS.toMicros(nanos)).append(" µs");
+			}
+		}
+
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Flight recorder event for loading a destination chunk ahead of a teleport
+ */
+@Name("com.winterhavenmc.lodestar.ChunkPreload")
+@Label("LodeStar Chunk Preload")
+@Category({"LodeStar", "Teleport"})
+public final class ChunkPreloadEvent extends Event
+{
+	@Label("Source")
+	@Description("Component that requested the chunk, teleport warmup or destination prefetch")
+	public String source;
+
+	@Label("World")
+	public String world;
+
+	@Label("Chunk X")
+	public int chunkX;
+
+	@Label("Chunk Z")
+	public int chunkZ;
+
+	@Label("Already Loaded")
+	public boolean alreadyLoaded;
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Flight recorder event for the execution of a LodeStar subcommand
+ */
+@Name("com.winterhavenmc.lodestar.CommandExecution")
+@Label("LodeStar Command Execution")
+@Category({"LodeStar", "Command"})
+public final class CommandExecutionEvent extends Event
+{
+	@Label("Subcommand")
+	public String subcommand;
+
+	@Label("Sender")
+	public String sender;
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Flight recorder event for a destination repository query. The event duration covers the whole repository call,
+ * including cache lookups.
+ */
+@Name("com.winterhavenmc.lodestar.DatastoreQuery")
+@Label("LodeStar Datastore Query")
+@Category({"LodeStar", "Datastore"})
+@Description("Destination repository get, save, delete or names query")
+public final class DatastoreQueryEvent extends Event
+{
+	@Label("Query")
+	public String query;
+
+	@Label("Key")
+	public String key;
+
+	@Label("Rows")
+	@Description("Number of destinations returned, saved or deleted")
+	public int rows;
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Flight recorder event for a stage of a player teleport: the initiate stage resolves the destination and schedules
+ * the warmup, and the teleport stage moves the player when the warmup expires.
+ */
+@Name("com.winterhavenmc.lodestar.TeleportStage")
+@Label("LodeStar Teleport Stage")
+@Category({"LodeStar", "Teleport"})
+public final class TeleportStageEvent extends Event
+{
+	@Label("Stage")
+	public String stage;
+
+	@Label("Player")
+	public String player;
+
+	@Label("Destination")
+	public String destination;
+}
@@ -52,6 +52,15 @@ public interface DestinationRepository
 	List<String> names();
 
 
+	/**
+	 * Get the number of records. The count is kept in memory, so no query is made,
+	 * and this method is safe to call from any thread.
+	 *
+	 * @return the number of destination records
+	 */
+	int count();
+
+
 	/**
 	 * Delete record
 	 *
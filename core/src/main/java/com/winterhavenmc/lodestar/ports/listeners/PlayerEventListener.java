@@ -22,8 +22,12 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.inventory.PrepareItemCraftEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 
 
 public interface PlayerEventListener extends Listener
@@ -36,6 +40,14 @@ public interface PlayerEventListener extends Listener
 	@EventHandler
 	void onPlayerDeath(PlayerDeathEvent event);
 
+	/**
+	 * open player teleport session when player joins server
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler
+	void onPlayerJoin(PlayerJoinEvent event);
+
 	/**
 	 * clean up any pending player tasks when player logs off of server
 	 *
@@ -67,4 +79,28 @@ public interface PlayerEventListener extends Listener
 	 */
 	@EventHandler
 	void onPlayerMovement(PlayerMoveEvent event);
+
+	/**
+	 * Prefetch destination when a LodeStar item is selected in the hotbar
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(ignoreCancelled = true)
+	void onPlayerItemHeld(PlayerItemHeldEvent event);
+
+	/**
+	 * Prefetch destination when a LodeStar item is swapped into the main hand
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(ignoreCancelled = true)
+	void onPlayerSwapHandItems(PlayerSwapHandItemsEvent event);
+
+	/**
+	 * Cancel destination prefetch when player teleports
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(ignoreCancelled = true)
+	void onPlayerTeleport(PlayerTeleportEvent event);
 }
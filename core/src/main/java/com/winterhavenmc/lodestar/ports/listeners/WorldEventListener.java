@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.ports.listeners;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+
+public interface WorldEventListener extends Listener
+{
+	/**
+	 * register newly loaded world in world registry
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler
+	void onWorldLoad(WorldLoadEvent event);
+
+	/**
+	 * remove unloaded world from world registry
+	 *
+	 * @param event the event being handled by this method
+	 */
+	@EventHandler(ignoreCancelled = true)
+	void onWorldUnload(WorldUnloadEvent event);
+}
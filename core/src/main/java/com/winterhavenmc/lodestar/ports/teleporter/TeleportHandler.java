@@ -17,7 +17,14 @@
 
 package com.winterhavenmc.lodestar.ports.teleporter;
 
+import com.winterhavenmc.lodestar.metrics.Counter;
+import com.winterhavenmc.lodestar.models.destination.ValidDestination;
+
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Collection;
 
 
 public interface TeleportHandler
@@ -37,39 +44,87 @@ public interface TeleportHandler
 	void cancelTeleport(Player player);
 
 	/**
-	 * Test if player uuid is in warmup map
+	 * Cancel pending teleport for player, counting the cancellation if a teleport was pending
+	 *
+	 * @param player the player to cancel teleport
+	 * @param reason the counter for the cause of the cancellation
+	 */
+	void cancelTeleport(Player player, Counter reason);
+
+	/**
+	 * Test if player has a pending teleport warmup
 	 *
-	 * @param player the player to test if in warmup map
-	 * @return {@code true} if player is in warmup map, {@code false} if not
+	 * @param player the player to test
+	 * @return {@code true} if player is warming up, {@code false} if not
 	 */
 	boolean isWarmingUp(Player player);
 
 	/**
-	 * Remove player uuid from warmup map
+	 * End player warmup without cancelling the delayed teleport task, which will then not teleport the player
 	 *
-	 * @param player the player to remove from the warmup map
+	 * @param player the player whose warmup is ended
 	 */
 	void removeWarmingUpPlayer(Player player);
 
 	/**
-	 * Insert player into cooldown map
+	 * Start player cooldown, for the configured cooldown time
 	 *
-	 * @param player the player being inserted into the cooldown map
+	 * @param player the player starting a cooldown
 	 */
 	void startPlayerCooldown(Player player);
 
 	/**
-	 * Remove player from cooldown map
+	 * End player cooldown
 	 *
-	 * @param player the player to be removed from the cooldown map
+	 * @param player the player whose cooldown is ended
 	 */
 	void cancelPlayerCooldown(Player player);
 
 	/**
-	 * Test if a player is currently in the cooldown map
+	 * Test if a player cooldown has not yet expired
 	 *
 	 * @param player the player to check
-	 * @return true if player is currently in the cooldown map, false if not
+	 * @return true if player is cooling down, false if not
 	 */
 	boolean isCoolingDown(Player player);
+
+	/**
+	 * Open the teleport session of a player who has joined the server
+	 *
+	 * @param player the player
+	 */
+	void openSession(Player player);
+
+	/**
+	 * Close the teleport session of a player who has left the server, cancelling any pending teleport
+	 *
+	 * @param player the player
+	 */
+	void closeSession(Player player);
+
+	/**
+	 * Begin resolving the destination of an item brought into a player's main hand, and loading its chunk,
+	 * replacing any prefetch already in progress for the player
+	 *
+	 * @param player the player
+	 * @param itemStack the item now in the player's main hand
+	 */
+	void prefetchDestination(Player player, ItemStack itemStack);
+
+	/**
+	 * Cancel any destination prefetch for a player
+	 *
+	 * @param player the player whose prefetch is to be cancelled
+	 */
+	void cancelPrefetch(Player player);
+
+	/**
+	 * Teleport a group of players to a destination, spread across ticks in batches
+	 *
+	 * @param sender the command sender to receive progress messages
+	 * @param validDestination the destination
+	 * @param players the players to teleport
+	 * @return {@code true} if the group teleport was started, {@code false} if the destination has no location
+	 */
+	boolean teleportGroup(CommandSender sender, ValidDestination validDestination, Collection<? extends Player> players);
 }
@@ -18,10 +18,13 @@
 package com.winterhavenmc.lodestar.util;
 
 import com.winterhavenmc.library.messagebuilder.MessageBuilder;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
 import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
+import com.winterhavenmc.lodestar.ports.teleporter.TeleportHandler;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public record CommandCtx(JavaPlugin plugin, MessageBuilder messageBuilder,
-                         ConnectionProvider datastore, LodeStarUtility lodeStarUtility)
+                         ConnectionProvider datastore, LodeStarUtility lodeStarUtility,
+                         TeleportHandler teleportHandler, OperationMetrics metrics)
 {
 }
@@ -55,12 +55,16 @@ public final class LodeStarUtility
 {
 	public static final ValidConstantKey HOME_KEY = ConstantKey.of("LOCATION.HOME").isValid().orElseThrow();
 	public static final ValidConstantKey SPAWN_KEY = ConstantKey.of("LOCATION.SPAWN").isValid().orElseThrow();
+	private static final int PROTOTYPE_CACHE_SIZE = 64;
 	private final Plugin plugin;
 	private final MessageBuilder messageBuilder;
 	private final NamespacedKey ITEM_KEY;
 	private final NamespacedKey DESTINATION_KEY;
 	private final ConnectionProvider datastore;
 
+	// least recently used cache of prototype item stacks, keyed by destination display name
+	private final PrototypeCache<ItemStack> prototypeCache = new PrototypeCache<>(PROTOTYPE_CACHE_SIZE);
+
 
 	/**
 	 * Class constructor
@@ -80,7 +84,9 @@ public final class LodeStarUtility
 
 
 	/**
-	 * Create a SpawnStar item stack of given quantity, with custom display name and lore
+	 * Create a SpawnStar item stack of given quantity, with custom display name and lore. The item is cloned
+	 * from a cached prototype for the destination, so the display name and lore are only built once per
+	 * destination until the cache is invalidated.
 	 *
 	 * @param passedQuantity number of SpawnStar items in newly created stack
 	 * @return ItemStack of SpawnStar items
@@ -88,10 +94,31 @@ public final class LodeStarUtility
 	public ItemStack create(final int passedQuantity, final String destinationName)
 	{
 		int quantity = Math.max(1, passedQuantity);
+
+		ItemStack prototype = prototypeCache.get(destinationName, this::createPrototype);
+		if (prototype == null)
+		{
+			return null;
+		}
+
+		ItemStack returnItem = prototype.clone();
+		returnItem.setAmount(quantity);
+		return returnItem;
+	}
+
+
+	/**
+	 * Build a single SpawnStar item for a destination, with display name and lore macros replaced
+	 *
+	 * @param destinationName the destination display name
+	 * @return the new item stack, or null if the item could not be created
+	 */
+	private ItemStack createPrototype(final String destinationName)
+	{
 		ValidItemKey validItemKey = ItemKey.of("LODESTAR").isValid().orElseThrow();
 		Map<String, String> replacements = Collections.singletonMap("DESTINATION", destinationName);
 
-		Optional<ItemStack> itemStack = messageBuilder.items().createItem(validItemKey, quantity, replacements);
+		Optional<ItemStack> itemStack = messageBuilder.items().createItem(validItemKey, 1, replacements);
 		if (itemStack.isPresent())
 		{
 			ItemStack returnItem = itemStack.get();
@@ -105,6 +132,40 @@ public final class LodeStarUtility
 	}
 
 
+	/**
+	 * Discard all cached prototype items. Must be called when the configuration or language file is reloaded.
+	 */
+	public void invalidateItemCache()
+	{
+		prototypeCache.invalidate();
+	}
+
+
+	/**
+	 * Discard the cached prototype item for a destination. Must be called when a destination is set or deleted.
+	 *
+	 * @param destinationName the name of the destination that was changed
+	 */
+	public void invalidateItemCache(final String destinationName)
+	{
+		if (destinationName != null)
+		{
+			prototypeCache.invalidate(destinationName);
+		}
+	}
+
+
+	/**
+	 * Get the number of cached prototype items
+	 *
+	 * @return the number of cached prototype items
+	 */
+	public int itemCacheSize()
+	{
+		return prototypeCache.size();
+	}
+
+
 	public void setPersistentDestination(final ItemStack itemStack, final String destinationName)
 	{
 		if (itemStack.hasItemMeta() && itemStack.getItemMeta() != null)
@@ -194,29 +255,33 @@ public final class LodeStarUtility
 		if (itemStack == null) return new InvalidDestination("ø", "The itemStack parameter was null.");
 
 		String destinationKey = getDestinationKey(itemStack);
+		if (destinationKey == null) return new InvalidDestination("ø", "The itemStack does not have a destination key.");
+
 		return getDestination(destinationKey);
 	}
 
 
 	/**
-	 * Get destination key encoded in item persistent meta data
+	 * Get destination key encoded in item persistent meta data. The item meta is read only once,
+	 * because each call to {@link ItemStack#getItemMeta()} returns a new copy of the meta.
 	 *
 	 * @param itemStack the item stack from which to retrieve stored key
 	 * @return String - destination key, or null if item does not have key in persistent metadata
 	 */
 	public String getDestinationKey(final ItemStack itemStack)
 	{
-		if (itemStack != null
-				&& itemStack.hasItemMeta()
-				&& itemStack.getItemMeta() != null
-				&& itemStack.getItemMeta().getPersistentDataContainer().has(DESTINATION_KEY, PersistentDataType.STRING))
-		{
-			return itemStack.getItemMeta().getPersistentDataContainer().get(DESTINATION_KEY, PersistentDataType.STRING);
-		}
-		else
+		// hasItemMeta does not copy the meta, so test it first
+		if (itemStack == null || !itemStack.hasItemMeta())
 		{
 			return null;
 		}
+
+		final ItemMeta itemMeta = itemStack.getItemMeta();
+
+		// get returns null if the container does not have the key
+		return (itemMeta != null)
+				? itemMeta.getPersistentDataContainer().get(DESTINATION_KEY, PersistentDataType.STRING)
+				: null;
 	}
 
 
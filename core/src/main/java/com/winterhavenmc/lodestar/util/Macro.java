@@ -33,6 +33,13 @@ public enum Macro
 	FAIL_REASON,
 	SETTING,
 	URL,
+	COUNT,
+	TOTAL,
+	FAIL_COUNT,
+	OPERATION,
+	P50,
+	P99,
+	MAX,
 
 	NUMBER_LOCALE,
 	DATE_LOCALE,
@@ -28,8 +28,12 @@ public enum MessageId
 	COMMAND_SUCCESS_GIVE_OTHER,
 	COMMAND_SUCCESS_GIVE_SELF,
 	COMMAND_SUCCESS_GIVE_TARGET,
+	COMMAND_SUCCESS_GIVE_GROUP,
+	COMMAND_SUCCESS_METRICS_RESET,
 	COMMAND_SUCCESS_RELOAD,
 	COMMAND_SUCCESS_SET,
+	COMMAND_SUCCESS_TELEPORT_GROUP,
+	COMMAND_SUCCESS_TELEPORT_GROUP_PROGRESS,
 
 	COMMAND_SUCCESS_HELP_BIND,
 	COMMAND_SUCCESS_HELP_DELETE,
@@ -37,10 +41,12 @@ public enum MessageId
 	COMMAND_SUCCESS_HELP_GIVE,
 	COMMAND_SUCCESS_HELP_HELP,
 	COMMAND_SUCCESS_HELP_LIST,
+	COMMAND_SUCCESS_HELP_METRICS,
 	COMMAND_SUCCESS_HELP_RELOAD,
 	COMMAND_SUCCESS_HELP_SET,
 	COMMAND_SUCCESS_HELP_STATUS,
 	COMMAND_SUCCESS_HELP_TELEPORT,
+	COMMAND_SUCCESS_HELP_TELEPORT_GROUP,
 	COMMAND_SUCCESS_HELP_USAGE_HEADER,
 
 	COMMAND_WARN_SET_NUMERIC_PREFIX,
@@ -59,6 +65,8 @@ public enum MessageId
 	COMMAND_FAIL_SET_REASON,
 	COMMAND_FAIL_PLAYER_NOT_ONLINE,
 	COMMAND_FAIL_HELP_INVALID_COMMAND,
+	COMMAND_FAIL_SELECTOR_NO_PLAYERS,
+	COMMAND_FAIL_SELECTOR_INVALID,
 
 	COMMAND_FAIL_BIND_PERMISSION_DENIED,
 	COMMAND_FAIL_DELETE_PERMISSION_DENIED,
@@ -66,11 +74,13 @@ public enum MessageId
 	COMMAND_FAIL_GIVE_PERMISSION_DENIED,
 	COMMAND_FAIL_HELP_PERMISSION_DENIED,
 	COMMAND_FAIL_LIST_PERMISSION_DENIED,
+	COMMAND_FAIL_METRICS_PERMISSION_DENIED,
 	COMMAND_FAIL_OVERWRITE_PERMISSION_DENIED,
 	COMMAND_FAIL_RELOAD_PERMISSION_DENIED,
 	COMMAND_FAIL_SET_PERMISSION_DENIED,
 	COMMAND_FAIL_STATUS_PERMISSION_DENIED,
 	COMMAND_FAIL_TELEPORT_PERMISSION_DENIED,
+	COMMAND_FAIL_TELEPORT_GROUP_PERMISSION_DENIED,
 
 	COMMAND_STATUS_HEADER,
 	COMMAND_STATUS_PLUGIN_VERSION,
@@ -90,6 +100,7 @@ public enum MessageId
 	COMMAND_STATUS_ALLOW_IN_RECIPES,
 	COMMAND_STATUS_DISPLAY_LIGHTNING,
 	COMMAND_STATUS_ENABLED_WORLDS,
+	COMMAND_STATUS_TICK_COST,
 	COMMAND_STATUS_FOOTER,
 	COMMAND_STATUS_FROM_NETHER,
 	COMMAND_STATUS_FROM_END,
@@ -100,6 +111,10 @@ public enum MessageId
 	COMMAND_LIST_ITEM_INVALID,
 	COMMAND_LIST_EMPTY,
 
+	COMMAND_METRICS_HEADER,
+	COMMAND_METRICS_OPERATION,
+	COMMAND_METRICS_EMPTY,
+
 	EVENT_ITEM_USE_LOG,
 	EVENT_ITEM_USE_PERMISSION_DENIED,
 
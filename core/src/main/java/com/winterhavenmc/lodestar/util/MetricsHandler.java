@@ -17,24 +17,42 @@
 
 package com.winterhavenmc.lodestar.util;
 
+import com.winterhavenmc.lodestar.metrics.Counter;
+import com.winterhavenmc.lodestar.metrics.LodeStarStatistics;
+
 import org.bstats.bukkit.Metrics;
+import org.bstats.charts.AdvancedPie;
 import org.bstats.charts.SimplePie;
+import org.bstats.charts.SingleLineChart;
 import org.bukkit.plugin.Plugin;
 
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 
 /**
  * Responsible for sending various runtime metrics to bstats.org
  */
 public class MetricsHandler
 {
+	private final LodeStarStatistics statistics;
+
+	// counter values at last submission, so that line charts report counts per submission interval
+	private final Map<Counter, Long> submittedCounts = new EnumMap<>(Counter.class);
+
+
 	/**
 	 * Creates an instance of a MetricsHandler
 	 *
 	 * @param plugin reference to plugin main class
+	 * @param statistics the plugin operational statistics
 	 * @see <a href="https://bstats.org/plugin/bukkit/LodeStar">https://bstats.org/LodeStar</a>
 	 */
-	public MetricsHandler(Plugin plugin)
+	public MetricsHandler(Plugin plugin, LodeStarStatistics statistics)
 	{
+		this.statistics = statistics;
+
 		Metrics metrics = new Metrics(plugin, 13927);
 
 		// pie chart of configured language
@@ -60,6 +78,49 @@ public class MetricsHandler
 
 		// pie chart of teleport warmup time
 		metrics.addCustomChart(new SimplePie("teleport_warmup", () -> plugin.getConfig().getString("teleport-warmup")));
+
+		// line charts of teleports started, completed and rejected by cooldown
+		metrics.addCustomChart(new SingleLineChart("teleports_started", () -> countSinceSubmission(Counter.TELEPORT_STARTED)));
+		metrics.addCustomChart(new SingleLineChart("teleports_completed", () -> countSinceSubmission(Counter.TELEPORT_COMPLETED)));
+		metrics.addCustomChart(new SingleLineChart("cooldown_rejections", () -> countSinceSubmission(Counter.COOLDOWN_REJECTED)));
+
+		// pie chart of teleport cancellations by reason
+		metrics.addCustomChart(new AdvancedPie("teleport_cancellations", () ->
+		{
+			Map<String, Integer> cancellations = new LinkedHashMap<>();
+			cancellations.put("movement", countSinceSubmission(Counter.TELEPORT_CANCELLED_MOVEMENT));
+			cancellations.put("damage", countSinceSubmission(Counter.TELEPORT_CANCELLED_DAMAGE));
+			cancellations.put("interaction", countSinceSubmission(Counter.TELEPORT_CANCELLED_INTERACTION));
+			cancellations.put("death", countSinceSubmission(Counter.TELEPORT_CANCELLED_DEATH));
+			cancellations.put("quit", countSinceSubmission(Counter.TELEPORT_CANCELLED_QUIT));
+			return cancellations;
+		}));
+
+		// line chart of stored destinations
+		metrics.addCustomChart(new SingleLineChart("destinations", statistics::destinationCount));
+
+		// pie chart of destination cache hit ratio, in ten percent bands
+		metrics.addCustomChart(new SimplePie("destination_cache_hit_ratio", () ->
+		{
+			int band = Math.min(9, (int) (statistics.destinationCacheHitRatio() * 10)) * 10;
+			return band + "-" + (band + 10) + "%";
+		}));
+	}
+
+
+	/**
+	 * Get the count of an event since the previous chart submission. Chart data is collected on the main
+	 * server thread, so the submitted counts map is not accessed concurrently.
+	 *
+	 * @param counter the counted event
+	 * @return the count of the event since the previous submission
+	 */
+	private int countSinceSubmission(final Counter counter)
+	{
+		long count = statistics.count(counter);
+		long previous = submittedCounts.getOrDefault(counter, 0L);
+		submittedCounts.put(counter, count);
+		return (int) Math.min(Integer.MAX_VALUE, count - previous);
 	}
 
 }
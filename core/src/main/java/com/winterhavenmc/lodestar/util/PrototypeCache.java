@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+
+/**
+ * Least recently used cache of prototype values, keyed by destination display name. The cache may be used
+ * from any thread. Values are built outside the cache lock, and a value built while its entry was invalidated
+ * is returned to its caller but not cached, so an invalidation is never undone by a build that began before it.
+ *
+ * @param <T> the type of cached prototype
+ */
+final class PrototypeCache<T>
+{
+	private final Map<String, T> prototypes;
+
+	// incremented on every invalidation, guarded by this
+	private long generation;
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param maxSize the number of prototypes to retain
+	 */
+	PrototypeCache(final int maxSize)
+	{
+		this.prototypes = new LinkedHashMap<>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, T> eldest)
+			{
+				return size() > maxSize;
+			}
+		};
+	}
+
+
+	/**
+	 * Get the cached prototype for a name, building and caching it if absent
+	 *
+	 * @param name the destination display name
+	 * @param builder the function to build a prototype, which may return null
+	 * @return the cached or newly built prototype, or null if none could be built
+	 */
+	T get(final String name, final Function<String, T> builder)
+	{
+		final long expectedGeneration;
+		synchronized (this)
+		{
+			T prototype = prototypes.get(name);
+			if (prototype != null)
+			{
+				return prototype;
+			}
+			expectedGeneration = generation;
+		}
+
+		final T prototype = builder.apply(name);
+
+		synchronized (this)
+		{
+			if (prototype != null && generation == expectedGeneration)
+			{
+				prototypes.putIfAbsent(name, prototype);
+			}
+		}
+
+		return prototype;
+	}
+
+
+	/**
+	 * Discard all cached prototypes
+	 */
+	synchronized void invalidate()
+	{
+		generation++;
+		prototypes.clear();
+	}
+
+
+	/**
+	 * Discard the cached prototype for a name, ignoring case
+	 *
+	 * @param name the destination display name
+	 */
+	synchronized void invalidate(final String name)
+	{
+		generation++;
+		prototypes.keySet().removeIf(name::equalsIgnoreCase);
+	}
+
+
+	/**
+	 * Get the number of cached prototypes
+	 *
+	 * @return the number of cached prototypes
+	 */
+	synchronized int size()
+	{
+		return prototypes.size();
+	}
+
+}
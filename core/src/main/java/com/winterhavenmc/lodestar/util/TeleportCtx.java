@@ -18,10 +18,12 @@
 package com.winterhavenmc.lodestar.util;
 
 import com.winterhavenmc.library.messagebuilder.MessageBuilder;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
 import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public record TeleportCtx(JavaPlugin plugin, MessageBuilder messageBuilder,
-                          ConnectionProvider datastore, LodeStarUtility lodeStarUtility)
+                          ConnectionProvider datastore, LodeStarUtility lodeStarUtility,
+                          OperationMetrics metrics)
 {
 }
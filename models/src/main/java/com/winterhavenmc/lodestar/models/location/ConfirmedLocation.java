@@ -17,7 +17,6 @@
 
 package com.winterhavenmc.lodestar.models.location;
 
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 
 import java.util.UUID;
@@ -61,9 +60,9 @@ public sealed interface ConfirmedLocation permits ValidLocation, InvalidLocation
 		String checkedName = (worldName != null) ? worldName : "∅";
 		checkedName = (!checkedName.isBlank()) ? checkedName : "⬚";
 
-		return (Bukkit.getWorld(worldUid) == null)
+		return (!WorldRegistry.isLoaded(worldUid))
 				? new NoWorldLocation(checkedName, new UUID(0, 0), x, y, z, yaw, pitch)
-				: new ValidLocation(worldName, worldUid, x, y, z, yaw, pitch);
+				: new ValidLocation(WorldInterner.name(worldUid, worldName), worldUid, x, y, z, yaw, pitch);
 	}
 
 }
@@ -19,7 +19,6 @@ package com.winterhavenmc.lodestar.models.location;
 
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.location.Locatable;
 
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 
@@ -48,7 +47,7 @@ public record ValidLocation(String worldName,
 	 */
 	public World world()
 	{
-		return Bukkit.getWorld(worldUid);
+		return WorldRegistry.get(worldUid);
 	}
 
 
@@ -59,8 +58,10 @@ public record ValidLocation(String worldName,
 	 */
 	public Location getLocation()
 	{
-		return (Bukkit.getWorld(worldUid) != null)
-				? new Location(Bukkit.getWorld(worldUid), x, y, z, yaw, pitch)
+		final World world = WorldRegistry.get(worldUid);
+
+		return (world != null)
+				? new Location(world, x, y, z, yaw, pitch)
 				: null;
 	}
 }
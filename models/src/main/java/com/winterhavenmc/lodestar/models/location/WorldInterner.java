@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.models.location;
+
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+
+/**
+ * Interning table of world uid and world name instances, keyed by the bits of the world uid. Destinations loaded
+ * from the datastore share one {@link UUID} and one name {@link String} per world, instead of each retaining
+ * its own copies, of which there would otherwise be one pair per destination for only a handful of worlds.
+ * <p>
+ * Lookups read an immutable array without locking; additions copy the array. The table holds at most
+ * 256 worlds, beyond which instances are returned without being interned.
+ */
+public final class WorldInterner
+{
+	private static final int MAX_WORLDS = 256;
+
+	private static volatile Identity[] identities = new Identity[0];
+
+
+	/**
+	 * Private class constructor to prevent instantiation
+	 */
+	private WorldInterner()
+	{
+		throw new AssertionError();
+	}
+
+
+	/**
+	 * Get the canonical world uid for the given uid bits, without creating a {@link UUID} if one is interned
+	 *
+	 * @param mostSigBits the most significant bits of the world uid
+	 * @param leastSigBits the least significant bits of the world uid
+	 * @return the interned {@link UUID} with the given bits
+	 */
+	public static UUID uid(final long mostSigBits, final long leastSigBits)
+	{
+		final Identity identity = find(identities, mostSigBits, leastSigBits);
+		return (identity != null)
+				? identity.uid()
+				: intern(new UUID(mostSigBits, leastSigBits), null).uid();
+	}
+
+
+	/**
+	 * Get the canonical world name instance for a world. The name interned for a world is its current name if it
+	 * is loaded when first interned, or else the first name seen. A name that differs from the interned name, such
+	 * as one stored before the world was renamed, is returned as passed, without changing the table.
+	 *
+	 * @param worldUid the uid of the world
+	 * @param worldName the name of the world
+	 * @return the interned name if equal to {@code worldName}, or else {@code worldName}
+	 */
+	public static String name(final UUID worldUid, final String worldName)
+	{
+		if (worldUid == null || worldName == null)
+		{
+			return worldName;
+		}
+
+		Identity identity = find(identities, worldUid.getMostSignificantBits(), worldUid.getLeastSignificantBits());
+		if (identity == null || identity.name() == null)
+		{
+			identity = intern(worldUid, currentName(worldUid, worldName));
+		}
+
+		return worldName.equals(identity.name())
+				? identity.name()
+				: worldName;
+	}
+
+
+	/**
+	 * Empty the table
+	 */
+	public static synchronized void clear()
+	{
+		identities = new Identity[0];
+	}
+
+
+	private static synchronized Identity intern(final UUID worldUid, final String worldName)
+	{
+		final Identity[] current = identities;
+		final long mostSigBits = worldUid.getMostSignificantBits();
+		final long leastSigBits = worldUid.getLeastSignificantBits();
+
+		// a racing caller may have interned the world since the unlocked lookup
+		for (int i = 0; i < current.length; i++)
+		{
+			final Identity identity = current[i];
+			if (identity.matches(mostSigBits, leastSigBits))
+			{
+				if (worldName == null || identity.name() != null)
+				{
+					return identity;
+				}
+
+				// record the first name of a world interned by uid alone, keeping the interned uid
+				final Identity[] replaced = current.clone();
+				replaced[i] = new Identity(identity.uid(), worldName);
+				identities = replaced;
+				return replaced[i];
+			}
+		}
+
+		final Identity identity = new Identity(worldUid, worldName);
+		if (current.length < MAX_WORLDS)
+		{
+			final Identity[] added = Arrays.copyOf(current, current.length + 1);
+			added[current.length] = identity;
+			identities = added;
+		}
+		return identity;
+	}
+
+
+	private static String currentName(final UUID worldUid, final String worldName)
+	{
+		final World world = WorldRegistry.get(worldUid);
+		return (world != null) ? world.getName() : worldName;
+	}
+
+
+	private static Identity find(final Identity[] identities, final long mostSigBits, final long leastSigBits)
+	{
+		for (Identity identity : identities)
+		{
+			if (identity.matches(mostSigBits, leastSigBits))
+			{
+				return identity;
+			}
+		}
+		return null;
+	}
+
+
+	private record Identity(UUID uid, String name)
+	{
+		boolean matches(final long mostSigBits, final long leastSigBits)
+		{
+			return uid.getLeastSignificantBits() == leastSigBits && uid.getMostSignificantBits() == mostSigBits;
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.lodestar.models.location;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Registry of loaded server worlds, keyed by world uid. Location construction and validation resolve worlds
+ * through this registry, so that creating many locations does not require a server lookup for each one.
+ * <p>
+ * The registry is kept current by a world event listener calling {@link #register(World)} and
+ * {@link #unregister(World)}. Until it has been populated with {@link #refresh(Collection)}, lookups fall back
+ * to the server, and any world found is registered.
+ */
+public final class WorldRegistry
+{
+	private static final Map<UUID, World> worlds = new ConcurrentHashMap<>();
+	private static volatile boolean populated;
+
+
+	/**
+	 * Private class constructor to prevent instantiation
+	 */
+	private WorldRegistry()
+	{
+		throw new AssertionError();
+	}
+
+
+	/**
+	 * Get a loaded world by uid
+	 *
+	 * @param worldUid the uid of the world
+	 * @return the loaded {@link World}, or {@code null} if no world with the uid is loaded
+	 */
+	public static World get(final UUID worldUid)
+	{
+		if (worldUid == null)
+		{
+			return null;
+		}
+
+		World world = worlds.get(worldUid);
+
+		// if registry has not been populated, fall back to server lookup
+		if (world == null && !populated)
+		{
+			world = Bukkit.getWorld(worldUid);
+			if (world != null)
+			{
+				worlds.put(worldUid, world);
+			}
+		}
+
+		return world;
+	}
+
+
+	/**
+	 * Test if a world with the given uid is loaded
+	 *
+	 * @param worldUid the uid of the world
+	 * @return {@code true} if a world with the uid is loaded, {@code false} if not
+	 */
+	public static boolean isLoaded(final UUID worldUid)
+	{
+		return get(worldUid) != null;
+	}
+
+
+	/**
+	 * Add a world to the registry
+	 *
+	 * @param world the world that was loaded
+	 */
+	public static void register(final World world)
+	{
+		if (world != null)
+		{
+			worlds.put(world.getUID(), world);
+		}
+	}
+
+
+	/**
+	 * Remove a world from the registry
+	 *
+	 * @param world the world that was unloaded
+	 */
+	public static void unregister(final World world)
+	{
+		if (world != null)
+		{
+			worlds.remove(world.getUID());
+		}
+	}
+
+
+	/**
+	 * Replace the contents of the registry with the given worlds, and stop falling back to server lookups
+	 *
+	 * @param loadedWorlds all worlds currently loaded on the server
+	 */
+	public static void refresh(final Collection<World> loadedWorlds)
+	{
+		worlds.clear();
+		loadedWorlds.forEach(WorldRegistry::register);
+		populated = true;
+	}
+
+
+	/**
+	 * Empty the registry, and resume falling back to server lookups
+	 */
+	public static void clear()
+	{
+		populated = false;
+		worlds.clear();
+	}
+
+}
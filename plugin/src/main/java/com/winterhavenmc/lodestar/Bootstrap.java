@@ -22,19 +22,33 @@ import com.winterhavenmc.lodestar.adapters.commands.bukkit.BukkitCommandDispatch
 import com.winterhavenmc.lodestar.adapters.datastore.sqlite.SqliteConnectionProvider;
 import com.winterhavenmc.lodestar.adapters.listeners.bukkit.BukkitPlayerEventListener;
 import com.winterhavenmc.lodestar.adapters.listeners.bukkit.BukkitPlayerInteractEventListener;
+import com.winterhavenmc.lodestar.adapters.listeners.bukkit.BukkitWorldEventListener;
+import com.winterhavenmc.lodestar.adapters.metrics.prometheus.PrometheusExporter;
 import com.winterhavenmc.lodestar.adapters.teleporter.bukkit.BukkitTeleportHandler;
 
+import com.winterhavenmc.lodestar.metrics.Gauge;
+import com.winterhavenmc.lodestar.metrics.LodeStarStatistics;
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+import com.winterhavenmc.lodestar.metrics.OperationStatistics;
+import com.winterhavenmc.lodestar.metrics.SlowOperationLog;
+import com.winterhavenmc.lodestar.metrics.TickBudgetTracker;
 import com.winterhavenmc.lodestar.ports.datastore.ConnectionProvider;
 import com.winterhavenmc.lodestar.ports.teleporter.TeleportHandler;
 
 import com.winterhavenmc.lodestar.util.LodeStarUtility;
 import com.winterhavenmc.lodestar.util.MetricsHandler;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.io.IOException;
+
 
 public final class Bootstrap extends JavaPlugin
 {
 	private ConnectionProvider connectionProvider;
+	private SlowOperationLog slowOperationLog;
+	private PrometheusExporter prometheusExporter;
 
 
 	@Override
@@ -42,15 +56,32 @@ public final class Bootstrap extends JavaPlugin
 	{
 		saveDefaultConfig();
 
+		final OperationMetrics operationMetrics = new OperationMetrics();
+		new BukkitWorldEventListener(this, operationMetrics);
+		startSlowOperationLog(operationMetrics);
+
+		final TickBudgetTracker tickBudgetTracker = new TickBudgetTracker(this).start();
+		tickBudgetTracker.setBudget(getConfig().getLong("tick-budget"));
+		operationMetrics.setTickBudgetTracker(tickBudgetTracker);
 		final MessageBuilder messageBuilder = MessageBuilder.create(this);
-		this.connectionProvider = new SqliteConnectionProvider(this);
+		this.connectionProvider = new SqliteConnectionProvider(this, operationMetrics);
 		final LodeStarUtility lodeStarUtility = new LodeStarUtility(this, messageBuilder, connectionProvider);
-		final TeleportHandler teleportHandler = new BukkitTeleportHandler(this, messageBuilder, connectionProvider, lodeStarUtility);
+		final TeleportHandler teleportHandler = new BukkitTeleportHandler(this, messageBuilder, connectionProvider, lodeStarUtility, operationMetrics);
+
+		new BukkitCommandDispatcher(this, messageBuilder, connectionProvider, lodeStarUtility, teleportHandler, operationMetrics);
+		new BukkitPlayerEventListener(this, messageBuilder, connectionProvider, lodeStarUtility, teleportHandler, operationMetrics);
+		new BukkitPlayerInteractEventListener(this, messageBuilder, teleportHandler, operationMetrics);
+		operationMetrics.registerGauge(Gauge.PROTOTYPE_CACHE_SIZE, lodeStarUtility::itemCacheSize);
+
+		// publish operational statistics to other plugins and to bStats
+		final LodeStarStatistics statistics = new OperationStatistics(operationMetrics, connectionProvider);
+		getServer().getServicesManager().register(LodeStarStatistics.class, statistics, this, ServicePriority.Normal);
+		new MetricsHandler(this, statistics);
 
-		new BukkitCommandDispatcher(this, messageBuilder, connectionProvider, lodeStarUtility);
-		new BukkitPlayerEventListener(this, messageBuilder, connectionProvider, lodeStarUtility, teleportHandler);
-		new BukkitPlayerInteractEventListener(this, messageBuilder, teleportHandler);
-		new MetricsHandler(this);
+		if (getConfig().getBoolean("prometheus-exporter"))
+		{
+			startPrometheusExporter(operationMetrics);
+		}
 	}
 
 
@@ -58,6 +89,48 @@ public final class Bootstrap extends JavaPlugin
 	public void onDisable()
 	{
 		connectionProvider.close();
+
+		if (slowOperationLog != null)
+		{
+			slowOperationLog.close();
+		}
+
+		if (prometheusExporter != null)
+		{
+			prometheusExporter.stop();
+		}
+	}
+
+
+	private void startSlowOperationLog(final OperationMetrics operationMetrics)
+	{
+		try
+		{
+			slowOperationLog = new SlowOperationLog(new File(getDataFolder(), "logs"), getLogger());
+			operationMetrics.setSlowOperationLog(slowOperationLog);
+			operationMetrics.setSlowOperationThreshold(getConfig().getLong("slow-operation-threshold"));
+		}
+		catch (IOException exception)
+		{
+			getLogger().warning("Could not open the slow operation log: " + exception.getLocalizedMessage());
+		}
+	}
+
+
+	private void startPrometheusExporter(final OperationMetrics operationMetrics)
+	{
+		final int port = getConfig().getInt("prometheus-port");
+		try
+		{
+			prometheusExporter = new PrometheusExporter(this, operationMetrics);
+			prometheusExporter.start(port);
+			getLogger().info("Serving Prometheus metrics at http://127.0.0.1:" + port + "/metrics");
+		}
+		catch (IOException exception)
+		{
+			prometheusExporter = null;
+			getLogger().warning("Could not start the Prometheus metrics endpoint on port " + port + ": " + exception.getLocalizedMessage());
+		}
 	}
 
 }
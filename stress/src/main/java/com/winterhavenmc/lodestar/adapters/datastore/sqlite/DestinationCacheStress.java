@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.adapters.datastore.sqlite;
+
+import com.winterhavenmc.lodestar.metrics.OperationMetrics;
+import com.winterhavenmc.lodestar.models.destination.StoredDestination;
+import com.winterhavenmc.lodestar.models.destination.ValidDestination;
+import com.winterhavenmc.lodestar.models.location.WorldRegistry;
+import com.winterhavenmc.lodestar.stress.StressFixtures;
+
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+
+/**
+ * Stress tests for the destination cache of {@link SqliteDestinationRepository}, verifying that a lookup
+ * racing a write never leaves the cache holding a row the write replaced or deleted. Each state has its own
+ * in-memory database holding one destination, and a repository with an empty cache.
+ */
+public class DestinationCacheStress
+{
+	private static final Plugin PLUGIN = StressFixtures.plugin();
+	private static final World WORLD = StressFixtures.world("world");
+	private static final String NAME = "Alpha";
+
+	static
+	{
+		WorldRegistry.refresh(List.of(WORLD));
+	}
+
+
+	@JCStressTest
+	@Description("A lookup racing an update does not cache the replaced row")
+	@Outcome(id = "1", expect = ACCEPTABLE, desc = "Updated row returned")
+	@Outcome(id = "0", expect = FORBIDDEN, desc = "Replaced row cached by the lookup")
+	@State
+	public static class GetRacingSave extends Fixture
+	{
+		@Actor
+		public void get()
+		{
+			repository.get(NAME);
+		}
+
+		@Actor
+		public void save()
+		{
+			repository.save(List.of(destination(1)));
+		}
+
+		@Arbiter
+		public void settled(final I_Result result)
+		{
+			result.r1 = (repository.get(NAME) instanceof StoredDestination stored) ? (int) stored.location().x() : -1;
+			close();
+		}
+	}
+
+
+	@JCStressTest
+	@Description("A lookup racing a delete does not cache the deleted row")
+	@Outcome(id = "0", expect = ACCEPTABLE, desc = "Destination deleted")
+	@Outcome(id = "1", expect = FORBIDDEN, desc = "Deleted row cached by the lookup")
+	@State
+	public static class GetRacingDelete extends Fixture
+	{
+		@Actor
+		public void get()
+		{
+			repository.get(NAME);
+		}
+
+		@Actor
+		public void delete()
+		{
+			repository.delete(NAME);
+		}
+
+		@Arbiter
+		public void settled(final I_Result result)
+		{
+			result.r1 = (repository.get(NAME) instanceof ValidDestination) ? 1 : 0;
+			close();
+		}
+	}
+
+
+	/**
+	 * An in-memory database holding one destination at x = 0, and a repository that has not yet cached it.
+	 * The configuration repository is only used to localize error messages, which fail the test if reached.
+	 */
+	abstract static class Fixture
+	{
+		final Connection connection;
+		final SqliteDestinationRepository repository;
+
+		Fixture()
+		{
+			try
+			{
+				connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+				try (Statement statement = connection.createStatement())
+				{
+					statement.executeUpdate(SqliteQueries.getQuery("CreateDestinationTable"));
+				}
+				new SqliteDestinationRepository(PLUGIN, connection, null, new OperationMetrics()).save(List.of(destination(0)));
+				repository = new SqliteDestinationRepository(PLUGIN, connection, null, new OperationMetrics());
+			}
+			catch (SQLException exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+		}
+
+		void close()
+		{
+			try
+			{
+				connection.close();
+			}
+			catch (SQLException exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+		}
+	}
+
+
+	private static StoredDestination destination(final int x)
+	{
+		return (StoredDestination) StoredDestination.of(NAME, WORLD.getName(), WORLD.getUID(), x, 64, 0, 0, 0);
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.adapters.datastore.sqlite;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.sql.SQLException;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+
+/**
+ * Stress test for the first use of {@link SqliteQueries} from racing threads. The query catalog is loaded once
+ * per class loader, so each state discards it, and the first states run in each batch race to load it again.
+ */
+public class SqliteQueriesStress
+{
+	private static final VarHandle PROPERTIES;
+
+	static
+	{
+		try
+		{
+			PROPERTIES = MethodHandles.privateLookupIn(SqliteQueries.class, MethodHandles.lookup())
+					.findStaticVarHandle(SqliteQueries.class, "properties", java.util.Properties.class);
+		}
+		catch (ReflectiveOperationException exception)
+		{
+			throw new ExceptionInInitializerError(exception);
+		}
+	}
+
+
+	@JCStressTest
+	@Description("Threads racing to load the query catalog all read complete queries")
+	@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both threads read the query")
+	@Outcome(expect = FORBIDDEN, desc = "Query read from a partially loaded catalog")
+	@State
+	public static class FirstUse
+	{
+		public FirstUse()
+		{
+			PROPERTIES.setVolatile(null);
+		}
+
+		@Actor
+		public void read1(final II_Result result)
+		{
+			result.r1 = readQuery();
+		}
+
+		@Actor
+		public void read2(final II_Result result)
+		{
+			result.r2 = readQuery();
+		}
+	}
+
+
+	private static int readQuery()
+	{
+		try
+		{
+			return (SqliteQueries.getQuery("SelectAllKeys") != null) ? 1 : 0;
+		}
+		catch (SQLException exception)
+		{
+			return -1;
+		}
+	}
+
+}
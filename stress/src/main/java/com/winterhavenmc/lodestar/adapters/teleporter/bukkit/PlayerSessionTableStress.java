@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.adapters.teleporter.bukkit;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.II_Result;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+
+/**
+ * Stress tests for {@link PlayerSessionTable}, whose warmups are started by player interaction, completed by
+ * delayed teleport tasks and cancelled by movement, damage and quit handlers that may run on other threads.
+ */
+public class PlayerSessionTableStress
+{
+	private static final UUID PLAYER = UUID.nameUUIDFromBytes("Alpha".getBytes());
+	private static final UUID OTHER_PLAYER = UUID.nameUUIDFromBytes("Beta".getBytes());
+	private static final int TASK_ID = 7;
+	private static final long HOUR_MILLIS = 3_600_000L;
+
+	// enough sessions that the next insert grows the table
+	private static final UUID[] RESIDENTS = IntStream.range(0, 31)
+			.mapToObj(i -> UUID.nameUUIDFromBytes(("resident" + i).getBytes()))
+			.toArray(UUID[]::new);
+
+
+	@JCStressTest
+	@Description("Concurrent cancellations of one warmup receive its task id exactly once")
+	@Outcome(id = { "7, -1", "-1, 7" }, expect = ACCEPTABLE, desc = "One cancellation cancels the task")
+	@Outcome(id = "7, 7", expect = FORBIDDEN, desc = "Task cancelled and counted twice")
+	@Outcome(expect = FORBIDDEN, desc = "Task id lost")
+	@State
+	public static class CancelOnce
+	{
+		private final PlayerSessionTable sessions = new PlayerSessionTable();
+
+		public CancelOnce()
+		{
+			sessions.startWarmup(PLAYER, TASK_ID, 0);
+		}
+
+		@Actor
+		public void cancel1(final II_Result result)
+		{
+			result.r1 = sessions.cancelWarmup(PLAYER);
+		}
+
+		@Actor
+		public void cancel2(final II_Result result)
+		{
+			result.r2 = sessions.cancelWarmup(PLAYER);
+		}
+	}
+
+
+	@JCStressTest
+	@Description("A warmup completing as it is cancelled either teleports or is cancelled, never both")
+	@Outcome(id = { "1, 0", "0, 1" }, expect = ACCEPTABLE, desc = "Teleported, or cancelled")
+	@Outcome(id = "1, 1", expect = FORBIDDEN, desc = "Teleported after cancellation")
+	@Outcome(expect = FORBIDDEN, desc = "Warmup lost")
+	@State
+	public static class CompleteRacingCancel
+	{
+		private final PlayerSessionTable sessions = new PlayerSessionTable();
+
+		public CompleteRacingCancel()
+		{
+			sessions.startWarmup(PLAYER, TASK_ID, 3);
+		}
+
+		@Actor
+		public void complete(final II_Result result)
+		{
+			result.r1 = (sessions.completeWarmup(PLAYER, TASK_ID) == 3) ? 1 : 0;
+		}
+
+		@Actor
+		public void cancel(final II_Result result)
+		{
+			result.r2 = (sessions.cancelWarmup(PLAYER) == TASK_ID) ? 1 : 0;
+		}
+	}
+
+
+	@JCStressTest
+	@Description("A cooldown being started is either not yet visible, or in effect; never expired")
+	@Outcome(id = { "false, true", "true, true" }, expect = ACCEPTABLE, desc = "Read before or after start")
+	@Outcome(expect = FORBIDDEN, desc = "Unexpired cooldown not in effect")
+	@State
+	public static class StartCooldownAndRead
+	{
+		private final PlayerSessionTable sessions = new PlayerSessionTable();
+
+		@Actor
+		public void start()
+		{
+			sessions.startCooldown(PLAYER, System.currentTimeMillis() + HOUR_MILLIS);
+		}
+
+		@Actor
+		public void read(final ZZ_Result result)
+		{
+			result.r1 = sessions.cooldownRemaining(PLAYER, System.currentTimeMillis()) > 0;
+		}
+
+		@Arbiter
+		public void settled(final ZZ_Result result)
+		{
+			result.r2 = sessions.cooldownRemaining(PLAYER, System.currentTimeMillis()) > 0;
+		}
+	}
+
+
+	@JCStressTest
+	@Description("Warmups started concurrently for different players while the table grows are all retained")
+	@Outcome(id = "33, 2", expect = ACCEPTABLE, desc = "Both warmups pending, all sessions retained")
+	@Outcome(expect = FORBIDDEN, desc = "Session or warmup lost to a concurrent insert")
+	@State
+	public static class InsertDuringGrowth
+	{
+		private final PlayerSessionTable sessions = new PlayerSessionTable();
+
+		public InsertDuringGrowth()
+		{
+			for (UUID resident : RESIDENTS)
+			{
+				sessions.open(resident);
+			}
+		}
+
+		@Actor
+		public void start1()
+		{
+			sessions.startWarmup(PLAYER, TASK_ID, 0);
+		}
+
+		@Actor
+		public void start2()
+		{
+			sessions.startWarmup(OTHER_PLAYER, TASK_ID + 1, 0);
+		}
+
+		@Arbiter
+		public void size(final II_Result result)
+		{
+			result.r1 = sessions.size();
+			result.r2 = sessions.warmupCount();
+		}
+	}
+
+}
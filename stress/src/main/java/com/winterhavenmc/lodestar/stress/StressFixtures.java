@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.stress;
+
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Lightweight fakes of server types for stress tests. The fakes are proxies answering only the methods the
+ * structures under test call, so they are cheap to share between the many states a stress test allocates,
+ * and record nothing when called from racing threads.
+ */
+public final class StressFixtures
+{
+	/**
+	 * Private class constructor to prevent instantiation
+	 */
+	private StressFixtures()
+	{
+		throw new AssertionError();
+	}
+
+
+	/**
+	 * Create a fake world
+	 *
+	 * @param name the world name
+	 * @return a fake world answering name, uid and environment queries
+	 */
+	public static World world(final String name)
+	{
+		final UUID uid = UUID.nameUUIDFromBytes(("world:" + name).getBytes());
+		return proxy(World.class, (proxy, method, args) -> switch (method.getName())
+		{
+			case "getName" -> name;
+			case "getUID" -> uid;
+			case "getEnvironment" -> World.Environment.NORMAL;
+			case "hashCode" -> uid.hashCode();
+			case "equals" -> proxy == args[0];
+			case "toString" -> "StressWorld{" + name + "}";
+			default -> throw new UnsupportedOperationException(method.getName());
+		});
+	}
+
+
+	/**
+	 * Create a fake plugin with a default configuration and a logger that discards warnings
+	 *
+	 * @return a fake plugin answering logger and configuration queries
+	 */
+	public static Plugin plugin()
+	{
+		final Logger logger = Logger.getLogger("LodeStar-stress");
+		logger.setLevel(Level.SEVERE);
+		final YamlConfiguration configuration = new YamlConfiguration();
+
+		return proxy(Plugin.class, (proxy, method, args) -> switch (method.getName())
+		{
+			case "getName" -> "LodeStar";
+			case "getLogger" -> logger;
+			case "getConfig" -> configuration;
+			case "hashCode" -> System.identityHashCode(proxy);
+			case "equals" -> proxy == args[0];
+			case "toString" -> "StressPlugin";
+			default -> throw new UnsupportedOperationException(method.getName());
+		});
+	}
+
+
+	private static <T> T proxy(final Class<T> type, final InvocationHandler handler)
+	{
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.lodestar.util;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.I_Result;
+import org.openjdk.jcstress.infra.results.L_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+
+/**
+ * Stress tests for {@link PrototypeCache}, which is read when items are created, invalidated when destinations
+ * or configuration change, and sized by metrics threads. Prototypes are strings here, tagged with the version of
+ * the configuration they were built from.
+ */
+public class PrototypeCacheStress
+{
+	private static final String NAME = "Alpha";
+
+
+	@JCStressTest
+	@Description("A prototype built while its entry is invalidated is not cached")
+	@Outcome(id = "v1", expect = ACCEPTABLE, desc = "Prototype of the new configuration")
+	@Outcome(id = "v0", expect = FORBIDDEN, desc = "Prototype of the old configuration cached after invalidation")
+	@State
+	public static class InvalidateWhileBuilding
+	{
+		private final PrototypeCache<String> cache = new PrototypeCache<>(4);
+		private volatile String version = "v0";
+
+		@Actor
+		public void create()
+		{
+			cache.get(NAME, name -> version);
+		}
+
+		@Actor
+		public void reload()
+		{
+			version = "v1";
+			cache.invalidate(NAME.toLowerCase());
+		}
+
+		@Arbiter
+		public void settled(final L_Result result)
+		{
+			result.r1 = cache.get(NAME, name -> version);
+		}
+	}
+
+
+	@JCStressTest
+	@Description("Concurrent inserts never grow the cache past its size")
+	@Outcome(id = "1", expect = ACCEPTABLE, desc = "Least recently used prototype evicted")
+	@Outcome(expect = FORBIDDEN, desc = "Cache corrupted by concurrent inserts")
+	@State
+	public static class EvictUnderContention
+	{
+		private final PrototypeCache<String> cache = new PrototypeCache<>(1);
+
+		@Actor
+		public void create1()
+		{
+			cache.get("Alpha", name -> name);
+		}
+
+		@Actor
+		public void create2()
+		{
+			cache.get("Beta", name -> name);
+		}
+
+		@Actor
+		public void sample()
+		{
+			cache.size();
+		}
+
+		@Arbiter
+		public void size(final I_Result result)
+		{
+			result.r1 = cache.size();
+		}
+	}
+
+}